@@ -0,0 +1,108 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delegate's CPU-bound hashing on a dedicated, size-limited executor so a burst of
+ * logins or registrations cannot occupy every request thread. When the executor queue is full,
+ * or a queued hash is not picked up within the admission wait, the call fails fast with
+ * {@link HashingCapacityExceededException}, which is answered with 429 and Retry-After. A hash
+ * that has started always runs to completion, since BCrypt cannot be interrupted.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration admissionWait;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            ThreadPoolExecutor executor,
+            MeterRegistry meterRegistry,
+            Duration admissionWait,
+            long retryAfterSeconds
+    ) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.admissionWait = admissionWait;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.encodeTimer = Timer.builder("joiner.password.hash")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("joiner.password.hash")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("joiner.password.hash.rejected")
+                .register(meterRegistry);
+        Gauge.builder("joiner.password.hash.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("joiner.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        CountDownLatch started = new CountDownLatch(1);
+        FutureTask<T> future = new FutureTask<>(() -> {
+            started.countDown();
+            return task.call();
+        });
+
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new HashingCapacityExceededException(retryAfterSeconds);
+        }
+
+        try {
+            if (!started.await(admissionWait.toMillis(), TimeUnit.MILLISECONDS) && executor.remove(future)) {
+                rejected.increment();
+                throw new HashingCapacityExceededException(retryAfterSeconds);
+            }
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            executor.remove(future);
+            throw new HashingCapacityExceededException(retryAfterSeconds);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.exception.DatabaseCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections checked out at once with a fair semaphore in front of the
+ * pool. With virtual threads there is no request thread limit to do this, so thousands of
+ * requests can queue on the pool at the same time and all run into its connection timeout.
+ * Here a caller waits at most {@code maxWait} for a permit and otherwise fails fast with
+ * {@link DatabaseCapacityExceededException}, which is answered with 503 and Retry-After.
+ * The permit is returned when the connection is closed.
+ */
+public class ConnectionGuardDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public ConnectionGuardDataSource(
+            DataSource delegate,
+            int maxConcurrency,
+            Duration maxWait,
+            long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        super(delegate);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxWait = maxWait;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.rejected = Counter.builder("joiner.datasource.guard.rejected")
+                .register(meterRegistry);
+        Gauge.builder("joiner.datasource.guard.waiting", permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+        Gauge.builder("joiner.datasource.guard.active", permits, p -> maxConcurrency - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guarded(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guarded(() -> super.getConnection(username, password));
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new DatabaseCapacityExceededException(retryAfterSeconds);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseCapacityExceededException(retryAfterSeconds);
+        }
+    }
+
+    private Connection guarded(ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getCause();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
@@ -3,6 +3,7 @@ package io.appswave.joiner.config;
 import io.appswave.joiner.enums.UserRole;
 import io.appswave.joiner.entity.User;
 import io.appswave.joiner.repository.UserRepository;
+import io.appswave.joiner.util.EmailAddresses;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
@@ -21,7 +22,7 @@ public class DataInitializer {
     CommandLineRunner initDefaultAdmin(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return args -> {
 
-            if (userRepository.findByEmail(adminEmail).isEmpty()) {
+            if (userRepository.findByEmail(EmailAddresses.normalize(adminEmail)).isEmpty()) {
                 User admin = new User();
                 admin.setFirstName("Root");
                 admin.setLastName("Admin");
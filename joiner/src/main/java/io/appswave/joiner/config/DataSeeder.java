@@ -0,0 +1,216 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.enums.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates synthetic users and members for local profiling when the {@code seed} profile is
+ * active. Rows go through a stateless session with JDBC batching, one transaction per batch,
+ * and users share a small pool of pre-hashed passwords so BCrypt does not dominate the run.
+ * Seeded emails end in {@value #EMAIL_DOMAIN}; a second run continues after the highest seeded
+ * index, so rows deleted since the last run do not shift it onto emails that already exist.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class DataSeeder implements CommandLineRunner {
+
+    static final String EMAIL_DOMAIN = "@seed.joiner.local";
+    static final String PASSWORD_PREFIX = "seed-password-";
+
+    /** The {@code n} of {@code first.last.n@domain}; names never contain a dot. */
+    private static final String MAX_SEEDED_INDEX = """
+            SELECT MAX(CAST(SUBSTRING(m.email, LOCATE('.', m.email, LOCATE('.', m.email) + 1) + 1,
+                LOCATE('@', m.email) - LOCATE('.', m.email, LOCATE('.', m.email) + 1) - 1) AS Integer))
+            FROM Member m WHERE m.email LIKE :pattern
+            """;
+
+    private static final String[] FIRST_NAMES = {
+            "Mohammad", "Ahmad", "Omar", "Ali", "Yousef", "Khaled", "Hamza", "Zaid", "Ibrahim", "Tariq",
+            "Fatima", "Aisha", "Layla", "Noor", "Sara", "Huda", "Rania", "Dana", "Lina", "Maryam",
+            "James", "Daniel", "Adam", "Emma", "Sophia", "Olivia", "Lucas", "Mia", "Noah", "Hannah"
+    };
+    private static final String[] LAST_NAMES = {
+            "Haddad", "Khoury", "Nasser", "Saleh", "Mansour", "Darwish", "Qasem", "Jaber", "Hamdan", "Odeh",
+            "Abbas", "Shami", "Tamimi", "Zoubi", "Masri", "Halabi", "Smith", "Brown", "Taylor", "Wilson"
+    };
+
+    private final SessionFactory sessionFactory;
+    private final PasswordEncoder passwordEncoder;
+    private final int users;
+    private final int members;
+    private final int batchSize;
+    private final int passwordPool;
+    private final int[] genderWeights;
+    private final int[] membershipWeights;
+    private final int[] personaWeights;
+    private final long randomSeed;
+
+    public DataSeeder(
+            EntityManagerFactory entityManagerFactory,
+            PasswordEncoder passwordEncoder,
+            @Value("${joiner.seed.users:10000}") int users,
+            @Value("${joiner.seed.members:1000000}") int members,
+            @Value("${joiner.seed.batch-size:1000}") int batchSize,
+            @Value("${joiner.seed.password-pool:8}") int passwordPool,
+            @Value("${joiner.seed.gender-weights:50,50}") int[] genderWeights,
+            @Value("${joiner.seed.membership-weights:70,30}") int[] membershipWeights,
+            @Value("${joiner.seed.persona-weights:80,15,5}") int[] personaWeights,
+            @Value("${joiner.seed.random-seed:42}") long randomSeed
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.passwordEncoder = passwordEncoder;
+        this.users = users;
+        this.members = members;
+        this.batchSize = batchSize;
+        this.passwordPool = passwordPool;
+        this.genderWeights = weights(genderWeights, Gender.values().length, "gender");
+        this.membershipWeights = weights(membershipWeights, MembershipType.values().length, "membership");
+        this.personaWeights = weights(personaWeights, PersonaType.values().length, "persona");
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void run(String... args) {
+        int from = resumeIndex();
+        if (from >= members) {
+            log.info("Seed data already present (up to index {}), skipping", from - 1);
+            return;
+        }
+
+        String[] hashes = new String[passwordPool];
+        for (int i = 0; i < passwordPool; i++) {
+            hashes[i] = passwordEncoder.encode(PASSWORD_PREFIX + i);
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(randomSeed + from);
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+
+            for (int batchStart = from; batchStart < members; batchStart += batchSize) {
+                int batchEnd = Math.min(batchStart + batchSize, members);
+                List<Member> batch = new ArrayList<>(batchEnd - batchStart);
+                for (int i = batchStart; i < batchEnd; i++) {
+                    Member member = member(i, random);
+                    if (i < users) {
+                        member.setUser(user(member, hashes[i % passwordPool]));
+                    }
+                    batch.add(member);
+                }
+
+                // users first, then members, so each table gets uninterrupted JDBC batches
+                Transaction tx = session.beginTransaction();
+                for (Member member : batch) {
+                    if (member.getUser() != null) {
+                        session.insert(member.getUser());
+                    }
+                }
+                for (Member member : batch) {
+                    session.insert(member);
+                }
+                tx.commit();
+
+                if (batchEnd % 100_000 < batchSize || batchEnd == members) {
+                    long elapsed = Math.max(1, System.currentTimeMillis() - start);
+                    log.info("Seeded {}/{} members ({} rows/s)",
+                            batchEnd, members, (batchEnd - from) * 1000L / elapsed);
+                }
+            }
+        }
+
+        log.info("Seeded {} members and {} users in {} ms; user n logs in with {}<n mod {}>",
+                members - from, Math.max(0, Math.min(users, members) - from),
+                System.currentTimeMillis() - start, PASSWORD_PREFIX, passwordPool);
+    }
+
+    int resumeIndex() {
+        Integer max = sessionFactory.fromStatelessSession(session -> session
+                .createSelectionQuery(MAX_SEEDED_INDEX, Integer.class)
+                .setParameter("pattern", "%" + EMAIL_DOMAIN)
+                .getSingleResult());
+        return max == null ? 0 : max + 1;
+    }
+
+    private Member member(int index, Random random) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+        Member member = new Member();
+        member.setFirstName(firstName);
+        member.setLastName(lastName);
+        member.setEmail(email(index, firstName, lastName));
+        member.setMobileNumber(String.format("07%08d", random.nextInt(100_000_000)));
+        member.setGender(Gender.values()[pick(genderWeights, random)]);
+        member.setMembershipType(MembershipType.values()[pick(membershipWeights, random)]);
+        member.setPersona(PersonaType.values()[pick(personaWeights, random)]);
+        return member;
+    }
+
+    private static User user(Member member, String passwordHash) {
+        User user = new User();
+        user.setFirstName(member.getFirstName());
+        user.setLastName(member.getLastName());
+        user.setEmail(member.getEmail());
+        user.setPassword(passwordHash);
+        user.setUserRole(UserRole.USER);
+        return user;
+    }
+
+    static String email(int index, String firstName, String lastName) {
+        return (firstName + "." + lastName + "." + index).toLowerCase(Locale.ROOT) + EMAIL_DOMAIN;
+    }
+
+    /**
+     * Index into the enum values, chosen with probability proportional to its weight.
+     * {@code weights} holds running totals, so the last element is the sum.
+     */
+    static int pick(int[] weights, Random random) {
+        int roll = random.nextInt(weights[weights.length - 1]);
+        int i = 0;
+        while (roll >= weights[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    static int[] weights(int[] weights, int expected, String name) {
+        if (weights.length != expected) {
+            throw new IllegalArgumentException(
+                    "joiner.seed." + name + "-weights needs " + expected + " values, got " + weights.length);
+        }
+        int[] cumulative = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("joiner.seed." + name + "-weights must not be negative");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("joiner.seed." + name + "-weights must not all be zero");
+        }
+        return cumulative;
+    }
+}
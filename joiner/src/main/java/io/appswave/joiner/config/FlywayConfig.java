@@ -0,0 +1,39 @@
+package io.appswave.joiner.config;
+
+import org.flywaydb.core.api.Location;
+import org.springframework.boot.flyway.autoconfigure.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * Migrations live in {@code db/migration/<vendor>} (mysql, h2) because column types differ,
+ * e.g. UUIDs are BINARY(16) on MySQL and native UUID on H2. An explicit
+ * {@code spring.flyway.locations} is left untouched.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String DEFAULT_LOCATION = "classpath:db/migration";
+
+    @Bean
+    public FlywayConfigurationCustomizer vendorMigrationLocations() {
+        return configuration -> {
+            Location[] locations = configuration.getLocations();
+            if (locations.length != 1 || !locations[0].getDescriptor().equals(DEFAULT_LOCATION)) {
+                return;
+            }
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(
+                        configuration.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+                configuration.locations(DEFAULT_LOCATION + "/" + DatabaseDriver.fromProductName(product).getId());
+            } catch (MetaDataAccessException ex) {
+                throw new IllegalStateException("Cannot detect the database vendor for Flyway", ex);
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package io.appswave.joiner.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Metrics are scraped from {@code /actuator/prometheus}, which only answers loopback clients.
+ * Route latency comes from {@code http.server.requests}. Service methods annotated with
+ * {@code @Timed} report {@code joiner.service}. Pool saturation is covered by
+ * {@code hikaricp.connections.*}, {@code tomcat.threads.*} and {@code joiner.password.hash.*},
+ * and mapped errors by {@code joiner.errors}. Histogram and exposure defaults are in
+ * {@code metrics.properties}.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
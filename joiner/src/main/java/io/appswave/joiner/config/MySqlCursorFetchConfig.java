@@ -0,0 +1,40 @@
+package io.appswave.joiner.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MySQL Connector/J ignores {@code setFetchSize} and reads the whole result set into memory
+ * unless the connection has {@code useCursorFetch=true}. This turns it on for MySQL pools, so
+ * the fetch-size hints on the export and search-index streams read one window at a time.
+ * Statements without a fetch size are not affected. A value already set in the URL or in
+ * {@code spring.datasource.hikari.data-source-properties} is left alone.
+ */
+@Configuration
+public class MySqlCursorFetchConfig {
+
+    static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+    @Bean
+    public static BeanPostProcessor mySqlCursorFetchPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    enableCursorFetch(hikari);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void enableCursorFetch(HikariDataSource hikari) {
+        String url = hikari.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:mysql:") && !url.contains(USE_CURSOR_FETCH)
+                && !hikari.getDataSourceProperties().containsKey(USE_CURSOR_FETCH)) {
+            hikari.addDataSourceProperty(USE_CURSOR_FETCH, "true");
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package io.appswave.joiner.config;
 
+import io.appswave.joiner.enums.AuthMode;
+import io.appswave.joiner.exception.ErrorBodies;
 import io.appswave.joiner.service.CustomUserDetailsService;
+import io.appswave.joiner.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.MessageSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -17,9 +22,14 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.LocaleResolver;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Locale;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSecurity
@@ -27,56 +37,84 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final WebExpressionAuthorizationManager LOCAL_ONLY =
+            new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')");
+
     private final CustomUserDetailsService userDetailsService;
-    private final MessageSource messageSource;
+    private final ErrorBodies errorBodies;
     private final LocaleResolver localeResolver;
+    private final ThreadPoolExecutor passwordHashingExecutor;
+    private final MeterRegistry meterRegistry;
+    private final TokenService tokenService;
+
+    @Value("${joiner.auth.mode:session}")
+    private AuthMode authMode;
+
+    @Value("${joiner.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${joiner.security.hashing.admission-wait:200ms}")
+    private Duration hashingAdmissionWait;
+
+    @Value("${joiner.security.hashing.retry-after:1}")
+    private long hashingRetryAfterSeconds;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        boolean tokenMode = authMode == AuthMode.TOKEN;
 
         http
                 .csrf(cs -> cs.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/**").access(LOCAL_ONLY)
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authProvider())
-                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                .sessionManagement(sm -> sm.sessionCreationPolicy(
+                        tokenMode ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED))
                 .formLogin(form -> form.disable())
                 .httpBasic(basic -> basic.disable())
                 .exceptionHandling(ex -> ex
-                        .accessDeniedHandler((request, response, exception) -> {
-                            Locale locale = localeResolver.resolveLocale(request);
-                            String msg = messageSource.getMessage("user.unauthorized", null, locale);
-
-                            response.setStatus(HttpStatus.FORBIDDEN.value());
-                            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                            response.getWriter().write("{\"error\":\"" + msg + "\",\"status\":403}");
-                        })
-                        .authenticationEntryPoint((request, response, exception) -> {
-                            Locale locale = localeResolver.resolveLocale(request);
-                            String msg = messageSource.getMessage("auth.user.notfound", null, locale);
-
-                            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-                            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                            response.getWriter().write("{\"error\":\"" + msg + "\",\"status\":401}");
-                        })
+                        .accessDeniedHandler((request, response, exception) ->
+                                writeError(response, HttpStatus.FORBIDDEN, "user.unauthorized",
+                                        localeResolver.resolveLocale(request)))
+                        .authenticationEntryPoint((request, response, exception) ->
+                                writeError(response, HttpStatus.UNAUTHORIZED, "auth.user.notfound",
+                                        localeResolver.resolveLocale(request)))
                 );
 
+        if (tokenMode) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 
+    private void writeError(HttpServletResponse response, HttpStatus status, String key, Locale locale) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(errorBodies.get(key, status.value(), locale));
+    }
+
     @Bean
     public DaoAuthenticationProvider authProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        provider.setHideUserNotFoundExceptions(false);
         return provider;
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength),
+                passwordHashingExecutor,
+                meterRegistry,
+                hashingAdmissionWait,
+                hashingRetryAfterSeconds
+        );
     }
 
     @Bean
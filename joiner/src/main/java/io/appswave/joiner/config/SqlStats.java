@@ -0,0 +1,114 @@
+package io.appswave.joiner.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Per-request SQL counters. {@link SqlStatsFilter} opens a scope for each HTTP request and the
+ * Hibernate hooks below add to it: statements through the statement inspector, JDBC execution
+ * time through the session event listener, and entity instances hydrated through the
+ * interceptor. Tuple and projection reads hydrate no entities and are not counted there, so
+ * the entity count is not a row count. Outside a request scope every hook is a no-op.
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+
+    private SqlStats() {
+    }
+
+    public record Snapshot(int statements, int entities, long nanos) {
+
+        public long millis() {
+            return nanos / 1_000_000;
+        }
+    }
+
+    public static void begin() {
+        CURRENT.set(new Counters());
+    }
+
+    public static Snapshot current() {
+        Counters counters = CURRENT.get();
+        return counters == null
+                ? new Snapshot(0, 0, 0)
+                : new Snapshot(counters.statements, counters.entities, counters.nanos);
+    }
+
+    public static Snapshot end() {
+        Snapshot snapshot = current();
+        CURRENT.remove();
+        return snapshot;
+    }
+
+    private static final class Counters {
+        private int statements;
+        private int entities;
+        private long nanos;
+        private long started;
+    }
+
+    public static final class Inspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            Counters counters = CURRENT.get();
+            if (counters != null) {
+                counters.statements++;
+            }
+            return sql;
+        }
+    }
+
+    public static final class EntityLoadCounter implements Interceptor {
+
+        @Override
+        public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+            Counters counters = CURRENT.get();
+            if (counters != null) {
+                counters.entities++;
+            }
+            return false;
+        }
+    }
+
+    public static final class Timing implements SessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            start();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            stop();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            start();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            stop();
+        }
+
+        private static void start() {
+            Counters counters = CURRENT.get();
+            if (counters != null) {
+                counters.started = System.nanoTime();
+            }
+        }
+
+        private static void stop() {
+            Counters counters = CURRENT.get();
+            if (counters != null && counters.started != 0) {
+                counters.nanos += System.nanoTime() - counters.started;
+                counters.started = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.appswave.joiner.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Copies the SQL counters of the current request into response headers just before the
+ * body is written, so the numbers cover the security checks, the service call and any
+ * lazy loading done while building the response.
+ */
+@RestControllerAdvice
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ENTITIES_HEADER = "X-Sql-Entities";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        SqlStats.Snapshot stats = SqlStats.current();
+        response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+        response.getHeaders().set(ENTITIES_HEADER, String.valueOf(stats.entities()));
+        response.getHeaders().set(TIME_HEADER, String.valueOf(stats.millis()));
+        return body;
+    }
+}
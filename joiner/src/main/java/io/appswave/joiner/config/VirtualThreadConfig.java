@@ -0,0 +1,54 @@
+package io.appswave.joiner.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true}, which makes Tomcat run each request
+ * on its own virtual thread. Adds the connection guard in front of the pool and the pinned-thread
+ * monitor.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionGuardPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${joiner.datasource.guard.max-concurrency:0}") int maxConcurrency,
+            @Value("${joiner.datasource.guard.max-wait:2s}") Duration maxWait,
+            @Value("${joiner.datasource.guard.retry-after:1}") long retryAfterSeconds
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionGuardDataSource) {
+                    return bean;
+                }
+                int permits = maxConcurrency > 0 ? maxConcurrency
+                        : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize()
+                        : 10;
+                return new ConnectionGuardDataSource(dataSource, permits, maxWait, retryAfterSeconds,
+                        meterRegistry.getObject());
+            }
+        };
+    }
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${joiner.threads.pinned-threshold:20ms}") Duration threshold
+    ) {
+        return new PinnedThreadMonitor(meterRegistry, threshold);
+    }
+}
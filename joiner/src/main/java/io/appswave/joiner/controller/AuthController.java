@@ -1,14 +1,15 @@
 package io.appswave.joiner.controller;
 
+import io.appswave.joiner.config.TokenAuthenticationFilter;
 import io.appswave.joiner.dto.request.LoginRequest;
 import io.appswave.joiner.dto.request.SignupRequest;
 import io.appswave.joiner.dto.response.ApiResponse;
 import io.appswave.joiner.dto.response.LoginResponse;
 import io.appswave.joiner.dto.response.LogoutResponse;
 import io.appswave.joiner.dto.response.RegisterResponse;
+import io.appswave.joiner.service.AuthRateLimiter;
 import io.appswave.joiner.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
@@ -27,12 +28,15 @@ import java.util.Locale;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
     private final MessageSource messageSource;
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<RegisterResponse>> register(
             @Valid @RequestBody SignupRequest request,
+            HttpServletRequest httpRequest,
             Locale locale) {
+        authRateLimiter.acquire(httpRequest.getRemoteAddr(), request.getEmail());
         RegisterResponse registerResponse = authService.register(request);
         String msg = messageSource.getMessage("register.success", null, "User registered successfully", locale);
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -44,6 +48,7 @@ public class AuthController {
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest,
             Locale locale) {
+        authRateLimiter.acquire(httpRequest.getRemoteAddr(), request.getEmail());
         LoginResponse loginResponse = authService.login(request, httpRequest);
         String msg = messageSource.getMessage("login.success", null, "Login successful", locale);
         return ResponseEntity.ok(ApiResponse.success(msg, loginResponse));
@@ -51,9 +56,9 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<LogoutResponse>> logout(
-            HttpSession session,
+            HttpServletRequest httpRequest,
             Locale locale) {
-        authService.logout(session);
+        authService.logout(httpRequest.getSession(false), TokenAuthenticationFilter.bearerToken(httpRequest));
         String msg = messageSource.getMessage("logout.success", null, "Logout successful", locale);
         LogoutResponse logoutResponse = LogoutResponse.builder()
                 .success(true)
@@ -1,21 +1,45 @@
 package io.appswave.joiner.controller;
 
+import io.appswave.joiner.dto.request.MemberBulkRequest;
+import io.appswave.joiner.dto.request.MemberFilterRequest;
 import io.appswave.joiner.dto.request.MemberRequest;
 import io.appswave.joiner.dto.request.MemberUpdateRequest;
 import io.appswave.joiner.dto.response.ApiResponse;
+import io.appswave.joiner.dto.response.BulkOperationResponse;
+import io.appswave.joiner.dto.response.CursorPageResponse;
 import io.appswave.joiner.dto.response.DeleteResponse;
+import io.appswave.joiner.dto.response.MemberImportResponse;
 import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.dto.response.SliceResponse;
+import io.appswave.joiner.enums.ListingMode;
+import io.appswave.joiner.enums.MemberField;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.exception.InvalidRequestException;
+import io.appswave.joiner.service.MemberExportService;
+import io.appswave.joiner.service.MemberImportService;
 import io.appswave.joiner.service.MemberService;
+import io.appswave.joiner.util.MemberEtags;
+import io.appswave.joiner.util.MemberMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -23,26 +47,59 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MemberController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** Tagged member representations depend on the message language and the negotiated format. */
+    private static final String[] REPRESENTATION_VARY = {HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT};
+    // lets the client keep the representation and revalidate it, instead of Spring Security's no-store
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
     private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<?>> list(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String firstName,
-            @RequestParam(required = false) String lastName,
-            @RequestParam(required = false) String email,
-            @RequestParam(required = false) String gender,
-            @RequestParam(required = false) String membershipType,
-            @RequestParam(required = false) String persona,
+            @RequestParam(defaultValue = "offset") String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) String fields,
+            @ModelAttribute MemberFilterRequest filter,
             Locale locale
     ) {
-        Page<MemberResponse> members = memberService.filterMembers(
-                page, size, firstName, lastName, email, gender, membershipType, persona
-        );
         String msg = messageSource.getMessage("members.retrieved", null, "Members retrieved successfully", locale);
+
+        ListingMode listingMode = ListingMode.parse(mode);
+        // offset listing keeps accepting any page size it always did; the cap is for the newer modes
+        if (listingMode != ListingMode.OFFSET && (page < 0 || size < 1 || size > MAX_PAGE_SIZE)) {
+            throw new InvalidRequestException("member.page.invalid");
+        }
+        Set<MemberField> selected = MemberField.parse(fields);
+
+        if (selected != null) {
+            return ResponseEntity.ok(ApiResponse.success(msg, switch (listingMode) {
+                case CURSOR -> memberService.scrollMembers(filter, cursor, size, sort, selected);
+                case SLICE -> memberService.sliceMembers(page, size, filter, withTotal, selected);
+                case OFFSET -> memberService.filterMembers(page, size, filter, selected);
+            }));
+        }
+
+        if (listingMode == ListingMode.CURSOR) {
+            CursorPageResponse<MemberResponse> members = memberService.scrollMembers(filter, cursor, size, sort);
+            return ResponseEntity.ok(ApiResponse.success(msg, members));
+        }
+        if (listingMode == ListingMode.SLICE) {
+            SliceResponse<MemberResponse> members = memberService.sliceMembers(page, size, filter, withTotal);
+            return ResponseEntity.ok(ApiResponse.success(msg, members));
+        }
+
+        Page<MemberResponse> members = memberService.filterMembers(page, size, filter);
         return ResponseEntity.ok(ApiResponse.success(msg, members));
     }
 
@@ -56,21 +113,106 @@ public class MemberController {
                 .body(ApiResponse.success(msg, member));
     }
 
+    @PostMapping(value = "/import", consumes = {MemberFileFormat.TEXT_CSV, MemberFileFormat.APPLICATION_NDJSON})
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importMembers(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Locale locale
+    ) throws IOException {
+        response.setContentType(MemberFileFormat.APPLICATION_NDJSON);
+        OutputStream out = response.getOutputStream();
+
+        MemberImportResponse summary = memberImportService.importMembers(
+                request.getInputStream(),
+                MemberFileFormat.fromContentType(request.getContentType()),
+                locale,
+                progress -> writeLine(out, progress)
+        );
+        writeLine(out, summary);
+    }
+
+    private void writeLine(OutputStream out, MemberImportResponse line) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Sets {@code Vary} and {@code Cache-Control} before the conditional check so that a 304 carries them too.
+     */
+    private static boolean notModified(ServletWebRequest webRequest, String etag) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.VARY, String.join(", ", REPRESENTATION_VARY));
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        }
+        return webRequest.checkNotModified(etag);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportMembers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @ModelAttribute MemberFilterRequest filter,
+            HttpServletResponse response
+    ) throws IOException {
+        MemberFileFormat fileFormat = MemberFileFormat.parse(format);
+
+        response.setContentType(fileFormat == MemberFileFormat.CSV
+                ? MemberFileFormat.TEXT_CSV
+                : MemberFileFormat.APPLICATION_NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"members." + fileFormat.name().toLowerCase(Locale.ROOT) + "\"");
+
+        memberExportService.export(filter, fileFormat, response.getOutputStream());
+    }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> bulk(
+            @Valid @RequestBody MemberBulkRequest request,
+            Locale locale
+    ) {
+        BulkOperationResponse result = memberService.bulk(request);
+        String msg = messageSource.getMessage("members.bulk.completed", null, "Bulk operation completed", locale);
+        return ResponseEntity.ok(ApiResponse.success(msg, result));
+    }
+
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<MemberResponse>> getMyProfile(Locale locale) {
+    public ResponseEntity<ApiResponse<?>> getMyProfile(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServletWebRequest webRequest,
+            Locale locale) {
+        Set<MemberField> selected = MemberField.parse(fields);
         MemberResponse  member = memberService.getMyProfile();
+        if (notModified(webRequest, MemberEtags.of(member, locale, accept, selected))) {
+            return null;
+        }
         String msg = messageSource.getMessage("profile.retrieved", null, "Profile retrieved successfully", locale);
-        return ResponseEntity.ok(ApiResponse.success(msg, member));
+        return ResponseEntity.ok(ApiResponse.cacheable(msg, selected != null ? MemberMapper.toFields(member, selected) : member));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<MemberResponse>> get(
+    public ResponseEntity<ApiResponse<?>> get(
             @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServletWebRequest webRequest,
             Locale locale) {
+        Set<MemberField> selected = MemberField.parse(fields);
         MemberResponse  member = memberService.get(id);
+        if (notModified(webRequest, MemberEtags.of(member, locale, accept, selected))) {
+            return null;
+        }
         String msg = messageSource.getMessage("member.retrieved", null, "Member retrieved successfully", locale);
-        return ResponseEntity.ok(ApiResponse.success(msg, member));
+        return ResponseEntity.ok(ApiResponse.cacheable(msg, selected != null ? MemberMapper.toFields(member, selected) : member));
     }
 
     @PatchMapping("/{id}")
@@ -78,10 +220,16 @@ public class MemberController {
     public ResponseEntity<ApiResponse<MemberResponse>> update(
             @PathVariable UUID id,
             @Valid @RequestBody MemberUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             Locale locale) {
-        MemberResponse  member = memberService.update(id, request);
+        MemberResponse  member = memberService.update(id, request, MemberEtags.ifMatchVersions(ifMatch));
         String msg = messageSource.getMessage("member.updated", null, "Member updated successfully", locale);
-        return ResponseEntity.ok(ApiResponse.success(msg, member));
+        return ResponseEntity.ok()
+                .eTag(MemberEtags.of(member, locale, accept))
+                .varyBy(REPRESENTATION_VARY)
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.cacheable(msg, member));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,22 @@
+package io.appswave.joiner.dto.request;
+
+import io.appswave.joiner.enums.MemberBulkOperation;
+import io.appswave.joiner.enums.MembershipType;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class MemberBulkRequest {
+
+    @NotNull(message = "member.bulk.operation.required")
+    private MemberBulkOperation operation;
+
+    private List<UUID> ids;
+
+    private MemberFilterRequest filter;
+
+    private MembershipType membershipType;
+}
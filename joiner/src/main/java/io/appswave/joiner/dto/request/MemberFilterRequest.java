@@ -0,0 +1,14 @@
+package io.appswave.joiner.dto.request;
+
+import lombok.Data;
+
+@Data
+public class MemberFilterRequest {
+
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String gender;
+    private String membershipType;
+    private String persona;
+}
@@ -28,6 +28,18 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    /**
+     * A success body without the timestamp, so equal inputs serialize to equal bytes and the
+     * response can carry a strong ETag.
+     */
+    public static <T> ApiResponse<T> cacheable(String message, T data) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .success(false)
@@ -0,0 +1,13 @@
+package io.appswave.joiner.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkOperationResponse {
+    private String operation;
+    private long affected;
+}
@@ -1,11 +1,14 @@
 package io.appswave.joiner.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.UUID;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,4 +20,8 @@ public class LoginResponse {
     private String lastName;
     private String role;
     private boolean authenticated;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant tokenExpiresAt;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package io.appswave.joiner.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportError {
+    private long line;
+    private String email;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package io.appswave.joiner.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportResponse {
+    private String status;
+    private long processed;
+    private long imported;
+    private long failed;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<MemberImportError> errors;
+}
@@ -17,5 +17,6 @@ public class MemberResponse {
     private String gender;
     private String membershipType;
     private String persona;
+    private long version;
 }
 
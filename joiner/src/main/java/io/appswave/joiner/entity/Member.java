@@ -4,14 +4,17 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.appswave.joiner.enums.Gender;
 import io.appswave.joiner.enums.MembershipType;
 import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.util.EmailAddresses;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.util.UUID;
 
 @Entity
 @Data
-@Table(name = "members")
+@Table(name = "members", uniqueConstraints = @UniqueConstraint(name = "uk_members_email", columnNames = "email"))
 public class Member {
 
     @Id
@@ -24,24 +27,37 @@ public class Member {
     @Column(nullable = false)
     private String lastName;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     private String mobileNumber;
 
+    @Enumerated(EnumType.ORDINAL)
     @Column(nullable = false)
     private Gender gender;
 
+    @Enumerated(EnumType.ORDINAL)
     @Column(nullable = false)
     private MembershipType membershipType;
 
+    @Enumerated(EnumType.ORDINAL)
     @Column(nullable = false)
     private PersonaType persona;
 
     private boolean deleted = false;
 
-    @OneToOne
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
+
+    public void setEmail(String email) {
+        this.email = EmailAddresses.normalize(email);
+    }
 }
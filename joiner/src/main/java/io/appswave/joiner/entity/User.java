@@ -2,6 +2,8 @@ package io.appswave.joiner.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.appswave.joiner.enums.UserRole;
+import io.appswave.joiner.service.PrincipalEvictionListener;
+import io.appswave.joiner.util.EmailAddresses;
 import jakarta.persistence.*;
 import lombok.*;
 import org.jspecify.annotations.Nullable;
@@ -17,6 +19,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalEvictionListener.class)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -46,6 +49,10 @@ public class User implements UserDetails {
     @JsonIgnore
     private Member member;
 
+    public void setEmail(String email) {
+        this.email = EmailAddresses.normalize(email);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
@@ -0,0 +1,6 @@
+package io.appswave.joiner.enums;
+
+public enum AuthMode {
+    SESSION,
+    TOKEN
+}
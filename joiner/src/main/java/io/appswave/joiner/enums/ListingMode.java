@@ -0,0 +1,18 @@
+package io.appswave.joiner.enums;
+
+import io.appswave.joiner.exception.InvalidRequestException;
+
+public enum ListingMode {
+    OFFSET,
+    CURSOR,
+    SLICE;
+
+    public static ListingMode parse(String mode) {
+        for (ListingMode value : values()) {
+            if (value.name().equalsIgnoreCase(mode)) {
+                return value;
+            }
+        }
+        throw new InvalidRequestException("member.mode.invalid");
+    }
+}
@@ -0,0 +1,7 @@
+package io.appswave.joiner.enums;
+
+public enum MemberBulkOperation {
+    SOFT_DELETE,
+    HARD_DELETE,
+    UPDATE_MEMBERSHIP_TYPE
+}
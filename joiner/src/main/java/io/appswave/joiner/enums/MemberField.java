@@ -0,0 +1,55 @@
+package io.appswave.joiner.enums;
+
+import io.appswave.joiner.exception.InvalidRequestException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The properties of a member response that a {@code fields=} parameter can select.
+ */
+public enum MemberField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    MOBILE_NUMBER("mobileNumber"),
+    GENDER("gender"),
+    MEMBERSHIP_TYPE("membershipType"),
+    PERSONA("persona"),
+    VERSION("version");
+
+    private final String property;
+
+    MemberField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static MemberField fromProperty(String property) {
+        for (MemberField field : values()) {
+            if (field.property.equalsIgnoreCase(property)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("member.fields.invalid");
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} value; {@code null} when the parameter is absent
+     * or blank, meaning every field.
+     */
+    public static Set<MemberField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<MemberField> selected = EnumSet.noneOf(MemberField.class);
+        for (String property : fields.split(",")) {
+            selected.add(fromProperty(property.trim()));
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,27 @@
+package io.appswave.joiner.enums;
+
+import io.appswave.joiner.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum MemberFileFormat {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    public static MemberFileFormat parse(String format) {
+        for (MemberFileFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new InvalidRequestException("member.format.invalid");
+    }
+
+    public static MemberFileFormat fromContentType(String contentType) {
+        return MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? CSV
+                : NDJSON;
+    }
+}
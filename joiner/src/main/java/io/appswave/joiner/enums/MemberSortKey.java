@@ -0,0 +1,29 @@
+package io.appswave.joiner.enums;
+
+import io.appswave.joiner.exception.InvalidRequestException;
+
+public enum MemberSortKey {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email");
+
+    private final String property;
+
+    MemberSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static MemberSortKey fromProperty(String property) {
+        for (MemberSortKey key : values()) {
+            if (key.property.equalsIgnoreCase(property)) {
+                return key;
+            }
+        }
+        throw new InvalidRequestException("member.sort.invalid");
+    }
+}
@@ -0,0 +1,15 @@
+package io.appswave.joiner.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class AuthThrottledException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public AuthThrottledException(long retryAfterSeconds) {
+        super("auth.throttled", HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
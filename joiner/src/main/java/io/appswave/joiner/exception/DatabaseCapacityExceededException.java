@@ -0,0 +1,15 @@
+package io.appswave.joiner.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class DatabaseCapacityExceededException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public DatabaseCapacityExceededException(long retryAfterSeconds) {
+        super("database.busy", HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package io.appswave.joiner.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * An expected failure identified by its message key and answered with {@link #getStatus()}.
+ * The stack trace is neither captured nor kept: these are thrown on ordinary request paths
+ * (unknown ids, bad cursors, duplicate emails) where it would never be read.
+ */
+@Getter
+public abstract class DomainException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected DomainException(String key, HttpStatus status) {
+        super(key, null, false, false);
+        this.status = status;
+    }
+}
@@ -1,7 +1,9 @@
 package io.appswave.joiner.exception;
 
-public class EmailAlreadyExistsException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class EmailAlreadyExistsException extends DomainException {
     public EmailAlreadyExistsException() {
-        super("user.exists");
+        super("user.exists", HttpStatus.CONFLICT);
     }
 }
@@ -0,0 +1,87 @@
+package io.appswave.joiner.exception;
+
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * Serialized error bodies, {@code {"error":"..."}} and {@code {"error":"...","status":n}}, built
+ * once at startup for every key in {@code messages.properties} in English and Arabic. Any
+ * language other than Arabic is answered in English. A key that is not in the bundle is
+ * serialized on demand, with the key itself as the message, as {@link MessageSource} does.
+ */
+@Component
+public class ErrorBodies {
+
+    private static final Locale ARABIC = Locale.forLanguageTag("ar");
+    /** Variants per key: index 0 has no status field, the rest follow {@link #STATUSES}. */
+    private static final int[] STATUSES = {0, 401, 403};
+
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final Map<String, byte[][]> english = new HashMap<>();
+    private final Map<String, byte[][]> arabic = new HashMap<>();
+
+    public ErrorBodies(MessageSource messageSource, ObjectMapper objectMapper) {
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+
+        for (String key : ResourceBundle.getBundle("messages", Locale.ROOT).keySet()) {
+            precompute(english, key, Locale.ENGLISH);
+            precompute(arabic, key, ARABIC);
+        }
+    }
+
+    public boolean isKnown(String key) {
+        return key != null && english.containsKey(key);
+    }
+
+    public byte[] get(String key, Locale locale) {
+        return get(key, 0, locale);
+    }
+
+    /**
+     * @param status included as a {@code status} field when it is 401 or 403
+     */
+    public byte[] get(String key, int status, Locale locale) {
+        byte[][] variants = key != null ? bodies(locale).get(key) : null;
+        int variant = variant(status);
+        return variants != null && variant >= 0 ? variants[variant] : serialize(key, status, locale);
+    }
+
+    private Map<String, byte[][]> bodies(Locale locale) {
+        return locale != null && ARABIC.getLanguage().equals(locale.getLanguage()) ? arabic : english;
+    }
+
+    private void precompute(Map<String, byte[][]> bodies, String key, Locale locale) {
+        byte[][] variants = new byte[STATUSES.length][];
+        for (int i = 0; i < STATUSES.length; i++) {
+            variants[i] = serialize(key, STATUSES[i], locale);
+        }
+        bodies.put(key, variants);
+    }
+
+    private static int variant(int status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i] == status) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private byte[] serialize(String key, int status, Locale locale) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", messageSource.getMessage(String.valueOf(key), null, String.valueOf(key), locale));
+        if (status != 0) {
+            body.put("status", status);
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
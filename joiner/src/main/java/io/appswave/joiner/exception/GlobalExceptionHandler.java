@@ -1,15 +1,19 @@
 package io.appswave.joiner.exception;
 
 import io.appswave.joiner.dto.response.ApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,14 +25,41 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String UNMAPPED = "unmapped";
+
     @Autowired
     private MessageSource messageSource;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ErrorBodies errorBodies;
+
     private String msg(String code) {
         Locale locale = LocaleContextHolder.getLocale();
         return messageSource.getMessage(code, null, code, locale);
     }
 
+    /**
+     * Counts each mapped error as {@code joiner.errors} by message key and status. Messages that
+     * are not keys in the bundle are tagged {@code unmapped} to keep tag cardinality bounded.
+     */
+    private void count(String code, HttpStatus status) {
+        String key = errorBodies.isKnown(code) ? code : UNMAPPED;
+        meterRegistry.counter("joiner.errors", "key", key, "status", String.valueOf(status.value())).increment();
+    }
+
+    private ResponseEntity<byte[]> error(HttpStatus status, String key) {
+        return error(ResponseEntity.status(status), status, key, 0);
+    }
+
+    private ResponseEntity<byte[]> error(ResponseEntity.BodyBuilder response, HttpStatus status, String key, int statusField) {
+        count(key, status);
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodies.get(key, statusField, LocaleContextHolder.getLocale()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidationErrors(MethodArgumentNotValidException ex) {
 
@@ -36,6 +67,7 @@ public class GlobalExceptionHandler {
 
         ex.getBindingResult().getFieldErrors().forEach(err -> {
             String messageKey = err.getDefaultMessage();
+            count(messageKey, HttpStatus.BAD_REQUEST);
             String localized = msg(messageKey);
             errors.put(err.getField(), localized);
         });
@@ -45,59 +77,83 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(EmailAlreadyExistsException.class)
     public ResponseEntity<?> handleEmailAlreadyExists(EmailAlreadyExistsException ex, Locale locale) {
+        count("user.exists", HttpStatus.CONFLICT);
         String msg = messageSource.getMessage("user.exists", null, "Email already exists", locale);
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(ApiResponse.error(msg));
     }
 
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<byte[]> handleHashingCapacityExceeded(HashingCapacityExceededException ex) {
+        return error(ResponseEntity.status(ex.getStatus())
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())),
+                ex.getStatus(), ex.getMessage(), 0);
+    }
+
+    @ExceptionHandler(AuthThrottledException.class)
+    public ResponseEntity<byte[]> handleAuthThrottled(AuthThrottledException ex) {
+        return error(ResponseEntity.status(ex.getStatus())
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())),
+                ex.getStatus(), ex.getMessage(), 0);
+    }
+
+    @ExceptionHandler(DatabaseCapacityExceededException.class)
+    public ResponseEntity<byte[]> handleDatabaseCapacityExceeded(DatabaseCapacityExceededException ex) {
+        return error(ResponseEntity.status(ex.getStatus())
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())),
+                ex.getStatus(), ex.getMessage(), 0);
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<?> handleCannotCreateTransaction(CannotCreateTransactionException ex) {
+        if (ex.getCause() instanceof DatabaseCapacityExceededException busy) {
+            return handleDatabaseCapacityExceeded(busy);
+        }
+        return handleException(ex);
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<byte[]> handleDomain(DomainException ex) {
+        return error(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        return error(HttpStatus.CONFLICT, "member.concurrent.update");
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<?> handleAccessDenied(AccessDeniedException ex) {
-        Locale locale = LocaleContextHolder.getLocale();
-        String message = messageSource.getMessage("user.unauthorized", null, "Access Denied", locale);
-        Map<String, Object> error = new HashMap<>();
-        error.put("error", message);
-        error.put("status", HttpStatus.FORBIDDEN.value());
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+    public ResponseEntity<byte[]> handleAccessDenied(AccessDeniedException ex) {
+        return error(ResponseEntity.status(HttpStatus.FORBIDDEN), HttpStatus.FORBIDDEN, "user.unauthorized", 403);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<?> handleEnumErrors(HttpMessageNotReadableException ex) {
+        String key = "bad.request";
         if (ex.getMessage().contains("Gender")) {
-            return ResponseEntity.badRequest().body(msg("validation.gender.required"));
-        }
-        if (ex.getMessage().contains("MembershipType")) {
-            return ResponseEntity.badRequest().body(msg("validation.membership.required"));
-        }
-        if (ex.getMessage().contains("PersonaType")) {
-            return ResponseEntity.badRequest().body(msg("validation.persona.required"));
+            key = "validation.gender.required";
+        } else if (ex.getMessage().contains("MembershipType")) {
+            key = "validation.membership.required";
+        } else if (ex.getMessage().contains("PersonaType")) {
+            key = "validation.persona.required";
         }
 
-        return ResponseEntity.badRequest().body(msg("bad.request"));
+        count(key, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(msg(key));
     }
 
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<?> handleRuntime(RuntimeException ex) {
-
-        Map<String, String> error = new HashMap<>();
-
-        String localized = msg(ex.getMessage());
-
-        error.put("error", localized);
-
-        return ResponseEntity.badRequest().body(error);
+    public ResponseEntity<byte[]> handleRuntime(RuntimeException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
     @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<?> handleBadCredentials(BadCredentialsException ex) {
-        Locale locale = LocaleContextHolder.getLocale();
-        String message = messageSource.getMessage("invalid.credentials", null, "Invalid credentials", locale);
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", message));
+    public ResponseEntity<byte[]> handleBadCredentials(BadCredentialsException ex) {
+        return error(HttpStatus.UNAUTHORIZED, "invalid.credentials");
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<?> handleException(Exception ex) {
-        Locale locale = LocaleContextHolder.getLocale();
-        String msg = messageSource.getMessage("error.internal", null, "An error occurred", locale);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", msg));
+    public ResponseEntity<byte[]> handleException(Exception ex) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "error.internal");
     }
-}
\ No newline at end of file
+}
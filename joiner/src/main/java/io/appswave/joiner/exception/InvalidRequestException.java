@@ -0,0 +1,10 @@
+package io.appswave.joiner.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String key) {
+        super(key, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,10 @@
+package io.appswave.joiner.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MemberNotFoundException extends DomainException {
+
+    public MemberNotFoundException() {
+        super("member.notfound", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,10 @@
+package io.appswave.joiner.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MemberProfileExistsException extends DomainException {
+
+    public MemberProfileExistsException() {
+        super("member.profile.exists", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,10 @@
+package io.appswave.joiner.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MemberVersionMismatchException extends DomainException {
+
+    public MemberVersionMismatchException() {
+        super("member.version.mismatch", HttpStatus.PRECONDITION_FAILED);
+    }
+}
@@ -1,8 +1,10 @@
 package io.appswave.joiner.exception;
 
-public class UserNotFoundException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class UserNotFoundException extends DomainException {
     public UserNotFoundException() {
-        super("auth.user.notfound");
+        super("auth.user.notfound", HttpStatus.BAD_REQUEST);
     }
 }
 
@@ -0,0 +1,53 @@
+package io.appswave.joiner.repository;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.MemberField;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Column-projected member list reads built with Criteria tuple queries, so no {@code Member}
+ * entity is ever loaded. The {@code *Fields} variants select only the requested columns (plus
+ * the sort keys a cursor needs) and return each row as a map from property name to value, in
+ * {@link MemberField} order, with enums as their names. The {@code *Views} variants select
+ * every {@link MemberView} column.
+ */
+public interface MemberFieldQueries {
+
+    int STREAM_FETCH_SIZE = 1000;
+
+    Page<Map<String, Object>> findFields(Specification<Member> spec, Set<MemberField> fields, Pageable pageable);
+
+    Slice<Map<String, Object>> sliceFields(Specification<Member> spec, Set<MemberField> fields, Pageable pageable);
+
+    /**
+     * Keyset scroll in ascending {@code sort} order, starting after {@code position}.
+     */
+    Window<Map<String, Object>> scrollFields(Specification<Member> spec, Set<MemberField> fields,
+                                             Sort sort, int limit, KeysetScrollPosition position);
+
+    Page<MemberView> findViews(Specification<Member> spec, Pageable pageable);
+
+    Slice<MemberView> sliceViews(Specification<Member> spec, Pageable pageable);
+
+    Window<MemberView> scrollViews(Specification<Member> spec, Sort sort, int limit, KeysetScrollPosition position);
+
+    /**
+     * Every match as a forward-only, read-only stream fetched {@link #STREAM_FETCH_SIZE} rows at
+     * a time; the caller must close it inside a transaction.
+     */
+    Stream<MemberView> streamViews(Specification<Member> spec);
+
+    List<UUID> findIds(Specification<Member> spec);
+}
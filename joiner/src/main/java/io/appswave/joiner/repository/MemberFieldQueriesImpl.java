@@ -0,0 +1,254 @@
+package io.appswave.joiner.repository;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberField;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class MemberFieldQueriesImpl implements MemberFieldQueries {
+
+    private static final Set<MemberField> ALL_FIELDS = EnumSet.allOf(MemberField.class);
+
+    private final EntityManager entityManager;
+
+    MemberFieldQueriesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Member> spec, Set<MemberField> fields, Pageable pageable) {
+        return page(spec, fields, pageable, row -> toMap(row, fields));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> sliceFields(Specification<Member> spec, Set<MemberField> fields, Pageable pageable) {
+        return slice(spec, fields, pageable, row -> toMap(row, fields));
+    }
+
+    @Override
+    public Window<Map<String, Object>> scrollFields(Specification<Member> spec, Set<MemberField> fields,
+                                                    Sort sort, int limit, KeysetScrollPosition position) {
+        return scroll(spec, fields, sort, limit, position, row -> toMap(row, fields));
+    }
+
+    @Override
+    public Page<MemberView> findViews(Specification<Member> spec, Pageable pageable) {
+        return page(spec, ALL_FIELDS, pageable, TupleView::new);
+    }
+
+    @Override
+    public Slice<MemberView> sliceViews(Specification<Member> spec, Pageable pageable) {
+        return slice(spec, ALL_FIELDS, pageable, TupleView::new);
+    }
+
+    @Override
+    public Window<MemberView> scrollViews(Specification<Member> spec, Sort sort, int limit, KeysetScrollPosition position) {
+        return scroll(spec, ALL_FIELDS, sort, limit, position, TupleView::new);
+    }
+
+    @Override
+    public Stream<MemberView> streamViews(Specification<Member> spec) {
+        return query(spec, ALL_FIELDS, Sort.unsorted())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(TupleView::new);
+    }
+
+    @Override
+    public List<UUID> findIds(Specification<Member> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Member> root = query.from(Member.class);
+        query.select(root.get("id"));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private <T> Page<T> page(Specification<Member> spec, Set<MemberField> fields, Pageable pageable,
+                             Function<Tuple, T> mapper) {
+        List<Tuple> rows = select(spec, fields, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows.stream().map(mapper).toList(), pageable, () -> count(spec));
+    }
+
+    private <T> Slice<T> slice(Specification<Member> spec, Set<MemberField> fields, Pageable pageable,
+                               Function<Tuple, T> mapper) {
+        List<Tuple> rows = select(spec, fields, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Tuple> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content.stream().map(mapper).toList(), pageable, hasNext);
+    }
+
+    private <T> Window<T> scroll(Specification<Member> spec, Set<MemberField> fields, Sort sort, int limit,
+                                 KeysetScrollPosition position, Function<Tuple, T> mapper) {
+        Specification<Member> page = position.isInitial() ? spec : spec.and(after(sort, position.getKeys()));
+        List<Tuple> rows = select(page, fields, sort, 0, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> window = hasNext ? rows.subList(0, limit) : rows;
+
+        return Window.from(window.stream().map(mapper).toList(),
+                i -> ScrollPosition.forward(keys(window.get(i), sort)), hasNext);
+    }
+
+    private List<Tuple> select(Specification<Member> spec, Set<MemberField> fields, Sort sort, long offset, int limit) {
+        return query(spec, fields, sort)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<Tuple> query(Specification<Member> spec, Set<MemberField> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Member> root = query.from(Member.class);
+
+        Set<String> columns = new LinkedHashSet<>();
+        fields.forEach(field -> columns.add(field.getProperty()));
+        sort.forEach(order -> columns.add(order.getProperty()));
+        query.multiselect(columns.stream().<Selection<?>>map(column -> root.get(column).alias(column)).toList());
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(sort.stream()
+                .map(order -> order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())))
+                .toList());
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Member> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Member> root = query.from(Member.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Rows strictly after {@code keys} in ascending {@code sort} order:
+     * {@code a > :a OR (a = :a AND b > :b) ...}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Specification<Member> after(Sort sort, Map<String, Object> keys) {
+        return (root, query, cb) -> {
+            List<Predicate> any = new ArrayList<>();
+            List<Predicate> equal = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                Path<Comparable> path = root.get(order.getProperty());
+                Comparable value = (Comparable) keys.get(order.getProperty());
+
+                List<Predicate> greater = new ArrayList<>(equal);
+                greater.add(cb.greaterThan(path, value));
+                any.add(cb.and(greater.toArray(Predicate[]::new)));
+                equal.add(cb.equal(path, value));
+            }
+            return cb.or(any.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Map<String, Object> keys(Tuple row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), row.get(order.getProperty())));
+        return keys;
+    }
+
+    private static Map<String, Object> toMap(Tuple row, Set<MemberField> fields) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (MemberField field : fields) {
+            Object value = row.get(field.getProperty());
+            map.put(field.getProperty(), value instanceof Enum<?> e ? e.name() : value);
+        }
+        return map;
+    }
+
+    private record TupleView(Tuple row) implements MemberView {
+
+        @Override
+        public UUID getId() {
+            return row.get("id", UUID.class);
+        }
+
+        @Override
+        public String getFirstName() {
+            return row.get("firstName", String.class);
+        }
+
+        @Override
+        public String getLastName() {
+            return row.get("lastName", String.class);
+        }
+
+        @Override
+        public String getEmail() {
+            return row.get("email", String.class);
+        }
+
+        @Override
+        public String getMobileNumber() {
+            return row.get("mobileNumber", String.class);
+        }
+
+        @Override
+        public Gender getGender() {
+            return row.get("gender", Gender.class);
+        }
+
+        @Override
+        public MembershipType getMembershipType() {
+            return row.get("membershipType", MembershipType.class);
+        }
+
+        @Override
+        public PersonaType getPersona() {
+            return row.get("persona", PersonaType.class);
+        }
+
+        @Override
+        public long getVersion() {
+            return row.get("version", Long.class);
+        }
+    }
+}
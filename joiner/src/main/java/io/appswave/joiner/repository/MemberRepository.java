@@ -1,52 +1,75 @@
 package io.appswave.joiner.repository;
 
 import io.appswave.joiner.entity.Member;
-import io.appswave.joiner.enums.Gender;
 import io.appswave.joiner.enums.MembershipType;
-import io.appswave.joiner.enums.PersonaType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, UUID>, JpaSpecificationExecutor<Member> {
+public interface MemberRepository extends JpaRepository<Member, UUID>, JpaSpecificationExecutor<Member>, MemberFieldQueries {
+
+    String VIEW_COLUMNS = """
+        m.id AS id, m.firstName AS firstName, m.lastName AS lastName, m.email AS email,
+        m.mobileNumber AS mobileNumber, m.gender AS gender,
+        m.membershipType AS membershipType, m.persona AS persona, m.version AS version
+    """;
 
     Optional<Member> findByUserId(UUID userId);
 
-    @Query("""
-        SELECT m FROM Member m
-        WHERE m.deleted = false
-        AND (:firstName IS NULL OR LOWER(m.firstName) LIKE LOWER(CONCAT('%', :firstName, '%')))
-        AND (:lastName IS NULL OR LOWER(m.lastName) LIKE LOWER(CONCAT('%', :lastName, '%')))
-        AND (:email IS NULL OR LOWER(m.email) LIKE LOWER(CONCAT('%', :email, '%')))
-        AND (:gender IS NULL OR m.gender = :gender)
-        AND (:membershipType IS NULL OR m.membershipType = :membershipType)
-        AND (:persona IS NULL OR m.persona = :persona)
-    """)
-    Page<Member> filterMembers(
-            @Param("firstName") String firstName,
-            @Param("lastName") String lastName,
-            @Param("email") String email,
-            @Param("gender") Gender gender,
-            @Param("membershipType") MembershipType membershipType,
-            @Param("persona") PersonaType persona,
-            Pageable pageable
-    );
-
-    Page<Member> findByDeletedFalse(Pageable pageable);
-
-    @Query("SELECT m FROM Member m WHERE m.deleted = false AND " +
-            "(LOWER(m.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-            " LOWER(m.lastName) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Member> searchActiveMembers(@Param("search") String search, Pageable pageable);
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    @Query(value = "SELECT " + VIEW_COLUMNS + " FROM Member m WHERE m.deleted = false",
+            countQuery = "SELECT COUNT(m) FROM Member m WHERE m.deleted = false")
+    Page<MemberView> findByDeletedFalse(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.deleted = true, m.version = m.version + 1 WHERE m.deleted = false AND m.id IN :ids")
+    int softDeleteByIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Member m WHERE m.id IN :ids")
+    int hardDeleteByIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.membershipType = :target, m.version = m.version + 1 " +
+            "WHERE m.deleted = false AND m.membershipType <> :target AND m.id IN :ids")
+    int updateMembershipTypeByIds(@Param("ids") Collection<UUID> ids, @Param("target") MembershipType target);
+
+    long countByEmailEndingWith(String suffix);
+
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    String SEARCH_PREDICATE = "WHERE m.deleted = false AND " +
+            "(LOWER(m.firstName) LIKE :pattern ESCAPE '!' OR LOWER(m.lastName) LIKE :pattern ESCAPE '!')";
+
+    @Query(value = "SELECT " + VIEW_COLUMNS + " FROM Member m " + SEARCH_PREDICATE,
+            countQuery = "SELECT COUNT(m) FROM Member m " + SEARCH_PREDICATE)
+    /**
+     * {@code pattern} comes from {@link io.appswave.joiner.util.FilterParams#likeContains}.
+     */
+    Page<MemberView> searchActiveMembers(@Param("pattern") String pattern, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.id AS id, m.firstName AS firstName, m.lastName AS lastName, m.email AS email " +
+            "FROM Member m WHERE m.deleted = false")
+    Stream<MemberSearchView> streamSearchViews();
+
 
 }
 
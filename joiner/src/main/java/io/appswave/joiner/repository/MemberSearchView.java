@@ -0,0 +1,14 @@
+package io.appswave.joiner.repository;
+
+import java.util.UUID;
+
+public interface MemberSearchView {
+
+    UUID getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+}
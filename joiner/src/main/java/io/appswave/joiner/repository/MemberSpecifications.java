@@ -0,0 +1,87 @@
+package io.appswave.joiner.repository;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.util.FilterParams;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public final class MemberSpecifications {
+
+    private MemberSpecifications() {
+    }
+
+    public static PredicateSpecification<Member> notDeleted() {
+        return (root, cb) -> cb.isFalse(root.get("deleted"));
+    }
+
+    public static PredicateSpecification<Member> contains(String property, String value) {
+        String pattern = FilterParams.likeContains(value);
+        return (root, cb) -> cb.like(cb.lower(root.get(property)), pattern, FilterParams.LIKE_ESCAPE);
+    }
+
+    public static PredicateSpecification<Member> hasValue(String property, Object value) {
+        return (root, cb) -> cb.equal(root.get(property), value);
+    }
+
+    public static PredicateSpecification<Member> idIn(Collection<UUID> ids) {
+        return (root, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    public static Specification<Member> filter(
+            String firstName,
+            String lastName,
+            String email,
+            Gender gender,
+            MembershipType membershipType,
+            PersonaType persona
+    ) {
+        return Specification.where(matching(firstName, lastName, email, gender, membershipType, persona));
+    }
+
+    /**
+     * Member list predicates; only the filters that were actually supplied end up in the
+     * WHERE clause, so each one can be served by an index. Usable in queries as well as in
+     * bulk UPDATE and DELETE statements.
+     */
+    public static PredicateSpecification<Member> matching(
+            String firstName,
+            String lastName,
+            String email,
+            Gender gender,
+            MembershipType membershipType,
+            PersonaType persona
+    ) {
+        List<PredicateSpecification<Member>> specs = new ArrayList<>();
+        specs.add(notDeleted());
+
+        if (firstName != null && !firstName.isBlank()) {
+            specs.add(contains("firstName", firstName));
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            specs.add(contains("lastName", lastName));
+        }
+        if (email != null && !email.isBlank()) {
+            String exact = FilterParams.emailEquals(email);
+            specs.add(exact != null ? hasValue("email", exact) : contains("email", email));
+        }
+        if (gender != null) {
+            specs.add(hasValue("gender", gender));
+        }
+        if (membershipType != null) {
+            specs.add(hasValue("membershipType", membershipType));
+        }
+        if (persona != null) {
+            specs.add(hasValue("persona", persona));
+        }
+
+        return PredicateSpecification.allOf(specs);
+    }
+}
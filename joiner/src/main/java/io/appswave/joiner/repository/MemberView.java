@@ -0,0 +1,32 @@
+package io.appswave.joiner.repository;
+
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+
+import java.util.UUID;
+
+/**
+ * The columns behind {@link io.appswave.joiner.dto.response.MemberResponse}. List pages and
+ * the export select these directly instead of loading {@code Member} entities.
+ */
+public interface MemberView {
+
+    UUID getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getMobileNumber();
+
+    Gender getGender();
+
+    MembershipType getMembershipType();
+
+    PersonaType getPersona();
+
+    long getVersion();
+}
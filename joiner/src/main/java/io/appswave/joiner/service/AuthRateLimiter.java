@@ -0,0 +1,125 @@
+package io.appswave.joiner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.appswave.joiner.exception.AuthThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket admission for the login and register endpoints, per client IP and per email
+ * and client IP pair, checked before any password is hashed. The email bucket is keyed by the
+ * pair so that guessing against an account from one address cannot lock its owner out from
+ * another. A bucket holds {@code burst} tokens and gets one back every {@code refill}. It is kept
+ * as a single theoretical-arrival time in an {@link AtomicLong} and updated by compare-and-set,
+ * so callers on different keys never block each other. Rejections are counted as
+ * {@code joiner.auth.throttled} by {@code scope}.
+ * <p>
+ * Buckets live in Caffeine caches bounded by {@code max-keys} and expire once they would be full
+ * again. A bucket evicted for size is forgotten, throttled or not, so a client able to create
+ * more than {@code max-keys} fresh keys within one email refill window can reset its own email
+ * buckets. Every fresh key still costs a token from the IP bucket, which bounds how fast one
+ * address can churn; {@code max-keys} should stay well above what the IP buckets admit.
+ */
+@Service
+public class AuthRateLimiter {
+
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${joiner.auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${joiner.auth.rate-limit.ip.burst:30}") int ipBurst,
+            @Value("${joiner.auth.rate-limit.ip.refill:2s}") Duration ipRefill,
+            @Value("${joiner.auth.rate-limit.email.burst:5}") int emailBurst,
+            @Value("${joiner.auth.rate-limit.email.refill:30s}") Duration emailRefill,
+            @Value("${joiner.auth.rate-limit.max-keys:100000}") long maxKeys
+    ) {
+        this(meterRegistry, enabled, ipBurst, ipRefill, emailBurst, emailRefill, maxKeys, System::nanoTime);
+    }
+
+    AuthRateLimiter(MeterRegistry meterRegistry, boolean enabled, int ipBurst, Duration ipRefill,
+                    int emailBurst, Duration emailRefill, long maxKeys, LongSupplier clock) {
+        this.enabled = enabled;
+        this.ipLimit = new Limit(meterRegistry, "ip", ipBurst, ipRefill, maxKeys);
+        this.emailLimit = new Limit(meterRegistry, "email", emailBurst, emailRefill, maxKeys);
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one token from the IP bucket and one from the bucket of {@code email} at {@code ip}.
+     *
+     * @throws AuthThrottledException when either bucket is empty
+     */
+    public void acquire(String ip, String email) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        ipLimit.acquire(ip, now);
+        if (email != null) {
+            emailLimit.acquire(email.trim().toLowerCase(Locale.ROOT) + " " + ip, now);
+        }
+    }
+
+    private static final class Limit {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter throttled;
+
+        Limit(MeterRegistry meterRegistry, String scope, int burst, Duration refill, long maxKeys) {
+            this.intervalNanos = refill.toNanos();
+            this.toleranceNanos = (burst - 1) * intervalNanos;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(Duration.ofNanos(burst * intervalNanos))
+                    .recordStats()
+                    .build();
+            this.throttled = Counter.builder("joiner.auth.throttled")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+            CaffeineCacheMetrics.monitor(meterRegistry, buckets, "auth-rate-" + scope);
+        }
+
+        void acquire(String key, long now) {
+            long waitNanos = tryAcquire(buckets.get(key, k -> new AtomicLong(now)), now);
+            if (waitNanos > 0) {
+                throttled.increment();
+                throw new AuthThrottledException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+            }
+        }
+
+        /**
+         * Returns 0 when a token was taken, otherwise how long until the next one is available.
+         */
+        private long tryAcquire(AtomicLong arrival, long now) {
+            while (true) {
+                long current = arrival.get();
+                long next = Math.max(current, now);
+                long waitNanos = next - now - toleranceNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (arrival.compareAndSet(current, next + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
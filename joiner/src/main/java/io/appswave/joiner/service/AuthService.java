@@ -5,30 +5,41 @@ import io.appswave.joiner.dto.request.SignupRequest;
 import io.appswave.joiner.dto.response.LoginResponse;
 import io.appswave.joiner.dto.response.RegisterResponse;
 import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.AuthMode;
 import io.appswave.joiner.enums.UserRole;
 import io.appswave.joiner.exception.EmailAlreadyExistsException;
 import io.appswave.joiner.exception.UserNotFoundException;
 import io.appswave.joiner.repository.UserRepository;
+import io.appswave.joiner.util.EmailAddresses;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed("joiner.service")
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final PrincipalCache principalCache;
+    private final TokenService tokenService;
+
+    @Value("${joiner.auth.mode:session}")
+    private AuthMode authMode = AuthMode.SESSION;
 
     public RegisterResponse register(SignupRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (userRepository.existsByEmail(EmailAddresses.normalize(request.getEmail()))) {
             throw new EmailAlreadyExistsException();
         }
 
@@ -40,6 +51,7 @@ public class AuthService {
         user.setUserRole(UserRole.USER);
 
         User savedUser = userRepository.save(user);
+        principalCache.evict(savedUser.getEmail());
 
         return RegisterResponse.builder()
                 .userId(savedUser.getId())
@@ -52,31 +64,49 @@ public class AuthService {
 
     public LoginResponse login(LoginRequest request, HttpServletRequest httpRequest) {
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        HttpSession session = httpRequest.getSession(true);
-        session.setAttribute("SPRING_SECURITY_CONTEXT", SecurityContextHolder.getContext());
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (UsernameNotFoundException ex) {
+            throw new UserNotFoundException();
+        }
 
         User authenticatedUser = (User) authentication.getPrincipal();
 
-        return LoginResponse.builder()
+        LoginResponse.LoginResponseBuilder response = LoginResponse.builder()
                 .userId(authenticatedUser.getId())
                 .email(authenticatedUser.getEmail())
                 .firstName(authenticatedUser.getFirstName())
                 .lastName(authenticatedUser.getLastName())
                 .role(authenticatedUser.getUserRole().name())
-                .authenticated(true)
-                .build();
+                .authenticated(true);
+
+        if (authMode == AuthMode.TOKEN) {
+            TokenService.IssuedToken token = tokenService.issue(authenticatedUser);
+            return response
+                    .token(token.value())
+                    .tokenExpiresAt(token.expiresAt())
+                    .build();
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        HttpSession session = httpRequest.getSession(true);
+        session.setAttribute("SPRING_SECURITY_CONTEXT", SecurityContextHolder.getContext());
+
+        return response.build();
+    }
+
+    public void logout(HttpSession session, String bearerToken) {
+        if (bearerToken != null) {
+            tokenService.revoke(bearerToken);
+        }
+        logout(session);
     }
 
     public void logout(HttpSession session) {
@@ -2,6 +2,7 @@ package io.appswave.joiner.service;
 
 import io.appswave.joiner.entity.User;
 import io.appswave.joiner.repository.UserRepository;
+import io.appswave.joiner.util.EmailAddresses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,12 +14,13 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        User user = principalCache.get(EmailAddresses.normalize(email), userRepository::findByEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         return user;
     }
-}
\ No newline at end of file
+}
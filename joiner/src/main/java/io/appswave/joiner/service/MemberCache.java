@@ -0,0 +1,94 @@
+package io.appswave.joiner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.entity.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Mapped single-member reads, keyed by member id ({@code GET /members/{id}}) and by owning
+ * user id ({@code GET /members/me}). {@link MemberService} evicts the affected keys on every
+ * write; inside a transaction the eviction is repeated when it completes so a concurrent read
+ * cannot leave the pre-commit row cached. Meters are published as {@code cache.*} with
+ * {@code cache=members} and {@code cache=members-by-user}.
+ */
+@Service
+public class MemberCache {
+
+    private final Cache<UUID, MemberResponse> byId;
+    private final Cache<UUID, MemberResponse> byUser;
+
+    public MemberCache(
+            MeterRegistry meterRegistry,
+            @Value("${joiner.members.cache.max-size:10000}") long maxSize,
+            @Value("${joiner.members.cache.ttl:10m}") Duration ttl
+    ) {
+        this.byId = build(maxSize, ttl);
+        this.byUser = build(maxSize, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "members");
+        CaffeineCacheMetrics.monitor(meterRegistry, byUser, "members-by-user");
+    }
+
+    private static Cache<UUID, MemberResponse> build(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public MemberResponse get(UUID memberId, Function<UUID, MemberResponse> loader) {
+        return byId.get(memberId, loader);
+    }
+
+    public MemberResponse getByUser(UUID userId, Function<UUID, MemberResponse> loader) {
+        return byUser.get(userId, loader);
+    }
+
+    public void evict(Member member) {
+        UUID memberId = member.getId();
+        UUID userId = member.getUser() != null ? member.getUser().getId() : null;
+        evictNowAndOnCompletion(() -> {
+            if (memberId != null) {
+                byId.invalidate(memberId);
+            }
+            if (userId != null) {
+                byUser.invalidate(userId);
+            }
+        });
+    }
+
+    public void evictAll() {
+        evictNowAndOnCompletion(() -> {
+            byId.invalidateAll();
+            byUser.invalidateAll();
+        });
+    }
+
+    public CacheStats stats() {
+        return byId.stats().plus(byUser.stats());
+    }
+
+    private static void evictNowAndOnCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.appswave.joiner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.appswave.joiner.dto.request.MemberFilterRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals for member listings, keyed by filter. Any write through {@link MemberService}
+ * drops every entry, so a cached total is only as stale as writes made outside the service
+ * (bounded by the expiry).
+ */
+@Service
+public class MemberCountCache {
+
+    private final Cache<String, Long> counts;
+
+    public MemberCountCache(
+            @Value("${joiner.members.count-cache.max-size:1000}") long maxSize,
+            @Value("${joiner.members.count-cache.ttl:10m}") Duration ttl
+    ) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long get(MemberFilterRequest filter, LongSupplier counter) {
+        return counts.get(key(filter), k -> counter.getAsLong());
+    }
+
+    public void invalidateAll() {
+        counts.invalidateAll();
+    }
+
+    private static String key(MemberFilterRequest filter) {
+        return String.join("\u0000",
+                normalize(filter.getFirstName()),
+                normalize(filter.getLastName()),
+                normalize(filter.getEmail()),
+                normalize(filter.getGender()),
+                normalize(filter.getMembershipType()),
+                normalize(filter.getPersona()));
+    }
+
+    private static String normalize(String value) {
+        return (value == null || value.isBlank()) ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,105 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.dto.request.MemberFilterRequest;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberSpecifications;
+import io.appswave.joiner.repository.MemberView;
+import io.appswave.joiner.util.MemberMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static io.appswave.joiner.util.FilterParams.parseEnum;
+
+/**
+ * Writes members matching the list filters straight from a forward-only result set to the
+ * response. Rows are read as projections, so nothing accumulates in the persistence context
+ * and heap use stays at one fetch window plus the output buffer.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    private static final byte[] CSV_HEADER =
+            "id,firstName,lastName,email,mobileNumber,gender,membershipType,persona\n"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(MemberFilterRequest filter, MemberFileFormat format, OutputStream target) {
+        long start = System.currentTimeMillis();
+        long rows = 0;
+
+        try (Stream<MemberView> members = memberRepository.streamViews(MemberSpecifications.filter(
+                filter.getFirstName(),
+                filter.getLastName(),
+                filter.getEmail(),
+                parseEnum(Gender.class, filter.getGender()),
+                parseEnum(MembershipType.class, filter.getMembershipType()),
+                parseEnum(PersonaType.class, filter.getPersona())
+        ))) {
+            OutputStream out = new BufferedOutputStream(target, 64 * 1024);
+            if (format == MemberFileFormat.CSV) {
+                out.write(CSV_HEADER);
+            }
+
+            Iterator<MemberView> it = members.iterator();
+            while (it.hasNext()) {
+                MemberView member = it.next();
+                if (format == MemberFileFormat.CSV) {
+                    out.write(csvLine(member).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    out.write(objectMapper.writeValueAsBytes(MemberMapper.toDto(member)));
+                    out.write('\n');
+                }
+                rows++;
+            }
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        log.info("Member export wrote {} rows as {} in {} ms", rows, format, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private static String csvLine(MemberView m) {
+        return String.join(",",
+                m.getId().toString(),
+                csv(m.getFirstName()),
+                csv(m.getLastName()),
+                csv(m.getEmail()),
+                csv(m.getMobileNumber()),
+                m.getGender().name(),
+                m.getMembershipType().name(),
+                m.getPersona().name()
+        ) + "\n";
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,276 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.dto.request.MemberRequest;
+import io.appswave.joiner.dto.response.MemberImportError;
+import io.appswave.joiner.dto.response.MemberImportResponse;
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.util.MemberImportReader;
+import io.appswave.joiner.util.MemberImportReader.Row;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Streams members from a CSV or NDJSON body into the database in fixed-size batches. Each
+ * batch is validated, checked for duplicate emails with one query, written in its own
+ * transaction with JDBC batching, and then reported to the caller and discarded, so memory
+ * use depends on the batch size only.
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    /** Unique key on {@code members.email}, as named in {@code V1__initial_schema.sql}. */
+    private static final String EMAIL_CONSTRAINT = "uk_members_email";
+
+    private static final HibernateJpaDialect EXCEPTION_TRANSLATOR = new HibernateJpaDialect();
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final MemberSearchIndex searchIndex;
+    private final MemberCountCache countCache;
+    private final int batchSize;
+
+    public MemberImportService(
+            MemberRepository memberRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            MessageSource messageSource,
+            ObjectMapper objectMapper,
+            MemberSearchIndex searchIndex,
+            MemberCountCache countCache,
+            @Value("${joiner.members.import.batch-size:500}") int batchSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.searchIndex = searchIndex;
+        this.countCache = countCache;
+        this.batchSize = batchSize;
+    }
+
+    public MemberImportResponse importMembers(
+            InputStream body,
+            MemberFileFormat format,
+            Locale locale,
+            Consumer<MemberImportResponse> progress
+    ) {
+        long start = System.currentTimeMillis();
+        long processed = 0;
+        long imported = 0;
+        long failed = 0;
+
+        try (MemberImportReader reader = new MemberImportReader(body, format, objectMapper)) {
+            List<Row> batch = new ArrayList<>(batchSize);
+            Row row;
+            do {
+                row = reader.next();
+                if (row != null) {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize || (row == null && !batch.isEmpty())) {
+                    List<MemberImportError> errors = new ArrayList<>();
+                    int saved = writeBatch(batch, errors, locale);
+
+                    processed += batch.size();
+                    imported += saved;
+                    failed += batch.size() - saved;
+                    batch.clear();
+
+                    progress.accept(MemberImportResponse.builder()
+                            .status("IN_PROGRESS")
+                            .processed(processed)
+                            .imported(imported)
+                            .failed(failed)
+                            .errors(errors)
+                            .build());
+                }
+            } while (row != null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (imported > 0) {
+                countCache.invalidateAll();
+            }
+        }
+
+        log.info("Member import finished: {} processed, {} imported, {} failed in {} ms",
+                processed, imported, failed, System.currentTimeMillis() - start);
+
+        return MemberImportResponse.builder()
+                .status("COMPLETED")
+                .processed(processed)
+                .imported(imported)
+                .failed(failed)
+                .build();
+    }
+
+    private int writeBatch(List<Row> batch, List<MemberImportError> errors, Locale locale) {
+        List<Row> valid = new ArrayList<>(batch.size());
+        Set<String> emails = new HashSet<>();
+
+        for (Row row : batch) {
+            String error = row.error() != null ? row.error() : firstViolation(row.request());
+            if (error == null && !emails.add(row.request().getEmail().toLowerCase(Locale.ROOT))) {
+                error = "member.email.exists";
+            }
+            if (error != null) {
+                errors.add(error(row, error, locale));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> existing = new HashSet<>();
+        memberRepository.findExistingEmails(valid.stream().map(row -> row.request().getEmail()).toList()).forEach(email -> existing.add(email.toLowerCase(Locale.ROOT)));
+
+        List<Member> members = new ArrayList<>(valid.size());
+        for (Row row : valid) {
+            if (existing.contains(row.request().getEmail().toLowerCase(Locale.ROOT))) {
+                errors.add(error(row, "member.email.exists", locale));
+            } else {
+                members.add(toMember(row.request()));
+            }
+        }
+
+        try {
+            persist(members);
+        } catch (DataIntegrityViolationException ex) {
+            members = persistOneByOne(valid, existing, errors, locale);
+        }
+
+        members.forEach(searchIndex::put);
+        errors.sort(Comparator.comparingLong(MemberImportError::getLine));
+        return members.size();
+    }
+
+    private void persist(List<Member> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                members.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (PersistenceException ex) {
+            // The shared EntityManager is not behind a repository proxy, so flush errors arrive untranslated
+            DataAccessException translated = EXCEPTION_TRANSLATOR.translateExceptionIfPossible(ex);
+            throw translated != null ? translated : ex;
+        }
+    }
+
+    /**
+     * A concurrent writer took one of the batch's emails after the duplicate check; retry the
+     * rows individually so only the conflicting ones are reported.
+     */
+    private List<Member> persistOneByOne(
+            List<Row> valid,
+            Set<String> existing,
+            List<MemberImportError> errors,
+            Locale locale
+    ) {
+        List<Member> saved = new ArrayList<>();
+        for (Row row : valid) {
+            if (existing.contains(row.request().getEmail().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            Member member = toMember(row.request());
+            try {
+                persist(List.of(member));
+                saved.add(member);
+            } catch (DataIntegrityViolationException ex) {
+                errors.add(error(row, violationKey(ex), locale));
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Only the unique email constraint is reported as a duplicate; any other rejected write
+     * (another constraint, a value too long for its column) gets the generic row error.
+     */
+    private static String violationKey(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && namesEmailConstraint(violation.getConstraintName())) {
+                return "member.email.exists";
+            }
+        }
+        return "member.import.rejected";
+    }
+
+    /**
+     * Drivers qualify the name differently ({@code members.uk_members_email} on MySQL,
+     * {@code PUBLIC.UK_MEMBERS_EMAIL INDEX ...} on H2), so look for it as a whole word.
+     */
+    private static boolean namesEmailConstraint(String constraintName) {
+        return constraintName != null && Arrays.stream(constraintName.split("[^A-Za-z0-9_]+"))
+                .anyMatch(EMAIL_CONSTRAINT::equalsIgnoreCase);
+    }
+
+    private String firstViolation(MemberRequest request) {
+        return validator.validate(request).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private MemberImportError error(Row row, String code, Locale locale) {
+        String email = row.request() != null ? row.request().getEmail() : null;
+        return new MemberImportError(row.line(), email, messageSource.getMessage(code, null, code, locale));
+    }
+
+    private static Member toMember(MemberRequest request) {
+        Member member = new Member();
+        member.setFirstName(request.getFirstName());
+        member.setLastName(request.getLastName());
+        member.setEmail(request.getEmail());
+        member.setMobileNumber(request.getMobileNumber());
+        member.setGender(request.getGender());
+        member.setPersona(request.getPersona());
+        member.setMembershipType(request.getMembershipType());
+        return member;
+    }
+}
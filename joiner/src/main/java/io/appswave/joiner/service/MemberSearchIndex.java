@@ -0,0 +1,343 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberSearchView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Trigram inverted index over firstName, lastName and email of non-deleted members.
+ * Substring filters resolve to a bounded set of candidate ids here instead of a
+ * leading-wildcard LIKE scan. Every document gets a dense int id; postings are sorted
+ * int arrays, and updates append a new document and mark the old one dead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberSearchIndex {
+
+    public enum Field {
+        FIRST_NAME("firstName"),
+        LAST_NAME("lastName"),
+        EMAIL("email");
+
+        private final String property;
+
+        Field(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+    }
+
+    private static final int GRAM = 3;
+
+    private final MemberRepository memberRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${joiner.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${joiner.search.index.max-candidates:5000}")
+    private int maxCandidates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> docByMember = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Set<UUID> removedDuringBuild = new HashSet<>();
+    private UUID[] members = new UUID[1024];
+    private String[][] values = new String[1024][];
+    private int nextDoc;
+    private int deadDocs;
+    private volatile boolean ready;
+    private boolean building;
+
+    /**
+     * Builds off the startup path so the application takes traffic at once; substring filters
+     * use LIKE until the index is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("member-search-index").start(() -> {
+            try {
+                build();
+            } catch (RuntimeException ex) {
+                log.error("Member search index build failed; substring filters stay on LIKE", ex);
+            }
+        });
+    }
+
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        boolean built = false;
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<MemberSearchView> rows = memberRepository.streamSearchViews()) {
+                    rows.forEach(row -> {
+                        lock.writeLock().lock();
+                        try {
+                            if (!docByMember.containsKey(row.getId()) && !removedDuringBuild.contains(row.getId())) {
+                                add(row.getId(), row.getFirstName(), row.getLastName(), row.getEmail());
+                            }
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                    });
+                }
+            });
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                removedDuringBuild.clear();
+                if (built) {
+                    ready = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("Member search index built with {} members in {} ms",
+                size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void put(Member member) {
+        if (!enabled) {
+            return;
+        }
+        if (member.isDeleted()) {
+            remove(member.getId());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            kill(member.getId());
+            add(member.getId(), member.getFirstName(), member.getLastName(), member.getEmail());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID memberId) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            kill(memberId);
+            if (building) {
+                removedDuringBuild.add(memberId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of live members whose value in {@code field} contains {@code term}, ignoring case.
+     * Returns {@code null} when the index cannot answer (not built yet, term shorter than a
+     * trigram, or too many matches for an IN list) and the caller should fall back to LIKE.
+     */
+    public Set<UUID> search(Field field, String term) {
+        return searchAny(term, field);
+    }
+
+    public Set<UUID> searchAny(String term, Field... fields) {
+        if (!ready || term == null || term.length() < GRAM) {
+            return null;
+        }
+
+        String needle = term.toLowerCase(Locale.ROOT);
+        Set<UUID> result = new HashSet<>();
+
+        lock.readLock().lock();
+        try {
+            for (Field field : fields) {
+                int[] candidates = candidates(field, needle);
+                for (int doc : candidates) {
+                    if (live.get(doc) && values[doc][field.ordinal()].contains(needle)) {
+                        result.add(members[doc]);
+                        if (result.size() > maxCandidates) {
+                            return null;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByMember.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] candidates(Field field, String needle) {
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            Postings list = postings.get(key(field, needle, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        int[] acc = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+        int accSize = acc.length;
+        for (int l = 1; l < lists.size() && accSize > 0; l++) {
+            accSize = intersect(acc, accSize, lists.get(l));
+        }
+        return Arrays.copyOf(acc, accSize);
+    }
+
+    private static int intersect(int[] acc, int accSize, Postings other) {
+        int i = 0;
+        int j = 0;
+        int out = 0;
+        while (i < accSize && j < other.size) {
+            if (acc[i] < other.docs[j]) {
+                i++;
+            } else if (acc[i] > other.docs[j]) {
+                j++;
+            } else {
+                acc[out++] = acc[i];
+                i++;
+                j++;
+            }
+        }
+        return out;
+    }
+
+    private void add(UUID memberId, String firstName, String lastName, String email) {
+        int doc = nextDoc++;
+        if (doc == members.length) {
+            members = Arrays.copyOf(members, doc * 2);
+            values = Arrays.copyOf(values, doc * 2);
+        }
+
+        String[] fields = {lower(firstName), lower(lastName), lower(email)};
+        members[doc] = memberId;
+        values[doc] = fields;
+        docByMember.put(memberId, doc);
+        live.set(doc);
+
+        for (Field field : Field.values()) {
+            String value = fields[field.ordinal()];
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                long key = key(field, value, i);
+                if (seen.add(key)) {
+                    postings.computeIfAbsent(key, k -> new Postings()).append(doc);
+                }
+            }
+        }
+    }
+
+    private void kill(UUID memberId) {
+        Integer doc = docByMember.remove(memberId);
+        if (doc == null) {
+            return;
+        }
+
+        live.clear(doc);
+        values[doc] = null;
+        deadDocs++;
+        if (deadDocs > 10_000 && deadDocs > docByMember.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        Map<UUID, String[]> alive = new HashMap<>();
+        docByMember.forEach((id, doc) -> alive.put(id, values[doc]));
+
+        postings.clear();
+        docByMember.clear();
+        live.clear();
+        members = new UUID[Math.max(1024, alive.size() * 2)];
+        values = new String[members.length][];
+        nextDoc = 0;
+        deadDocs = 0;
+
+        alive.forEach((id, v) -> add(id, v[0], v[1], v[2]));
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long key(Field field, String value, int offset) {
+        return ((long) field.ordinal() << 48)
+                | ((long) value.charAt(offset) << 32)
+                | ((long) value.charAt(offset + 1) << 16)
+                | value.charAt(offset + 2);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void append(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
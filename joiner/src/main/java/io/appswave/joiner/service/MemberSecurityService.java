@@ -1,6 +1,5 @@
 package io.appswave.joiner.service;
 
-import io.appswave.joiner.entity.Member;
 import io.appswave.joiner.entity.User;
 import io.appswave.joiner.enums.UserRole;
 import io.appswave.joiner.repository.MemberRepository;
@@ -24,12 +23,6 @@ public class MemberSecurityService {
             return true;
         }
 
-        Member member = memberRepository.findById(memberId).orElse(null);
-        if (member == null) {
-            return false;
-        }
-
-        return member.getUser() != null &&
-                member.getUser().getId().equals(currentUser.getId());
+        return memberRepository.existsByIdAndUserId(memberId, currentUser.getId());
     }
 }
\ No newline at end of file
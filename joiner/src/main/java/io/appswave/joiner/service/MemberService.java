@@ -1,34 +1,79 @@
 package io.appswave.joiner.service;
 
+import io.appswave.joiner.dto.request.MemberBulkRequest;
+import io.appswave.joiner.dto.request.MemberFilterRequest;
 import io.appswave.joiner.dto.request.MemberRequest;
 import io.appswave.joiner.dto.request.MemberUpdateRequest;
+import io.appswave.joiner.dto.response.BulkOperationResponse;
+import io.appswave.joiner.dto.response.CursorPageResponse;
 import io.appswave.joiner.dto.response.DeleteResponse;
 import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.dto.response.SliceResponse;
 import io.appswave.joiner.entity.Member;
 import io.appswave.joiner.entity.User;
 import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberBulkOperation;
+import io.appswave.joiner.enums.MemberField;
+import io.appswave.joiner.enums.MemberSortKey;
 import io.appswave.joiner.enums.MembershipType;
 import io.appswave.joiner.enums.PersonaType;
 import io.appswave.joiner.enums.UserRole;
+import io.appswave.joiner.exception.InvalidRequestException;
+import io.appswave.joiner.exception.MemberNotFoundException;
+import io.appswave.joiner.exception.MemberProfileExistsException;
+import io.appswave.joiner.exception.MemberVersionMismatchException;
 import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberSpecifications;
+import io.appswave.joiner.repository.MemberView;
 import io.appswave.joiner.repository.UserRepository;
+import io.appswave.joiner.service.MemberSearchIndex.Field;
+import io.appswave.joiner.util.CursorCodec;
 import io.appswave.joiner.util.MemberMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static io.appswave.joiner.util.FilterParams.blankToNull;
+import static io.appswave.joiner.util.FilterParams.emailContains;
+import static io.appswave.joiner.util.FilterParams.emailEquals;
+import static io.appswave.joiner.util.FilterParams.likeContains;
+import static io.appswave.joiner.util.FilterParams.parseEnum;
+
 @Service
+@Timed("joiner.service")
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int BULK_CHUNK = 1000;
+
     private final MemberRepository memberRepository;
     private final UserRepository userRepository;
+    private final MemberSearchIndex searchIndex;
+    private final MemberCountCache countCache;
+    private final MemberCache memberCache;
 
     private User currentUser() {
         return (User) SecurityContextHolder.getContext()
@@ -44,23 +89,23 @@ public class MemberService {
     public MemberResponse getMyProfile() {
         User user = currentUser();
 
-        Member member = memberRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new RuntimeException("member.notfound"));
-
-        return MemberMapper.toDto(member);
+        return memberCache.getByUser(user.getId(), userId -> MemberMapper.toDto(
+                memberRepository.findByUserId(userId)
+                        .orElseThrow(MemberNotFoundException::new)));
     }
 
     private Member getEntity(UUID id) {
         return memberRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("member.notfound"));
+                .orElseThrow(MemberNotFoundException::new);
     }
 
+    @Transactional
     public MemberResponse create(MemberRequest request) {
         User user = currentUser();
 
         if (user.getUserRole() == UserRole.USER &&
                 memberRepository.findByUserId(user.getId()).isPresent()) {
-            throw new RuntimeException("member.profile.exists");
+            throw new MemberProfileExistsException();
         }
 
         Member member = new Member();
@@ -77,6 +122,11 @@ public class MemberService {
         }
 
         Member saved = memberRepository.save(member);
+        afterCommit(() -> {
+            searchIndex.put(saved);
+            countCache.invalidateAll();
+        });
+        memberCache.evict(saved);
         return MemberMapper.toDto(saved);
     }
 
@@ -87,10 +137,7 @@ public class MemberService {
             throw new AccessDeniedException("user.unauthorized");
         }
 
-        Member member = memberRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("member.notfound"));
-
-        return MemberMapper.toDto(member);
+        return memberCache.get(id, memberId -> MemberMapper.toDto(getEntity(memberId)));
     }
 
     public Page<MemberResponse> list(int page, int size, String search) {
@@ -98,16 +145,30 @@ public class MemberService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Member> pageResult = (search != null && !search.isBlank())
-                ? memberRepository.searchActiveMembers(search, pageable)
-                : memberRepository.findByDeletedFalse(pageable);
+        if (search == null || search.isBlank()) {
+            return memberRepository.findByDeletedFalse(pageable).map(MemberMapper::toDto);
+        }
+
+        Set<UUID> ids = searchIndex.searchAny(search, Field.FIRST_NAME, Field.LAST_NAME);
+        Page<MemberView> pageResult = ids != null
+                ? memberRepository.findViews(Specification.where(MemberSpecifications.notDeleted().and(MemberSpecifications.idIn(ids))), pageable)
+                : memberRepository.searchActiveMembers(likeContains(search), pageable);
 
         return pageResult.map(MemberMapper::toDto);
     }
 
-    public MemberResponse update(UUID id, MemberUpdateRequest request) {
+    /**
+     * Applies the update only if the stored version is one of {@code expectedVersions} (when given);
+     * a write that slips in after the check still fails at flush through the version column.
+     */
+    @Transactional
+    public MemberResponse update(UUID id, MemberUpdateRequest request, Set<Long> expectedVersions) {
         Member member = getEntity(id);
 
+        if (expectedVersions != null && !expectedVersions.contains(member.getVersion())) {
+            throw new MemberVersionMismatchException();
+        }
+
         if (request.getFirstName() != null && !request.getFirstName().isBlank()) {
             member.setFirstName(request.getFirstName());
         }
@@ -131,61 +192,334 @@ public class MemberService {
         }
 
         Member updated = memberRepository.save(member);
+        // flush now so the returned version, and the ETag built from it, include this write
+        memberRepository.flush();
+        afterCommit(() -> {
+            searchIndex.put(updated);
+            countCache.invalidateAll();
+        });
+        memberCache.evict(updated);
         return MemberMapper.toDto(updated);
     }
 
+    @Transactional
     public DeleteResponse delete(UUID id, boolean hard) {
         Member member = getEntity(id);
 
         if (hard) {
-            hardDelete(id);
+            hardDelete(member);
             return new DeleteResponse("Member permanently deleted", "HARD", true);
         } else {
-            softDelete(id);
+            softDelete(member);
             return new DeleteResponse("Member deleted successfully", "SOFT", true);
         }
     }
 
+    @Transactional
     public void softDelete(UUID id) {
-        Member member = getEntity(id);
+        softDelete(getEntity(id));
+    }
+
+    @Transactional
+    public void hardDelete(UUID id) {
+        hardDelete(getEntity(id));
+    }
+
+    private void softDelete(Member member) {
         member.setDeleted(true);
         memberRepository.save(member);
+        afterCommit(() -> {
+            searchIndex.remove(member.getId());
+            countCache.invalidateAll();
+        });
+        memberCache.evict(member);
     }
 
-    public void hardDelete(UUID id) {
-        Member member = getEntity(id);
+    private void hardDelete(Member member) {
         memberRepository.delete(member);
+        afterCommit(() -> {
+            searchIndex.remove(member.getId());
+            countCache.invalidateAll();
+        });
+        memberCache.evict(member);
+    }
+
+    /**
+     * Applies one operation to every member in {@code ids}, or to every member matching
+     * {@code filter}, with set-based UPDATE/DELETE statements. Id lists are sent in chunks
+     * to keep IN lists bounded.
+     */
+    @Transactional
+    public BulkOperationResponse bulk(MemberBulkRequest request) {
+        MemberBulkOperation operation = request.getOperation();
+        List<UUID> ids = request.getIds();
+        MemberFilterRequest filter = request.getFilter();
+
+        if (operation == MemberBulkOperation.UPDATE_MEMBERSHIP_TYPE && request.getMembershipType() == null) {
+            throw new InvalidRequestException("validation.membership.required");
+        }
+
+        boolean byIds = ids != null && !ids.isEmpty();
+        if (!byIds && (filter == null || !hasAnyFilter(filter))) {
+            throw new InvalidRequestException("member.bulk.target.required");
+        }
+
+        List<UUID> removed = List.of();
+        if (operation != MemberBulkOperation.UPDATE_MEMBERSHIP_TYPE) {
+            removed = byIds ? ids : matchingIds(filter);
+        }
+
+        long affected = 0;
+        if (byIds) {
+            for (int from = 0; from < ids.size(); from += BULK_CHUNK) {
+                List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + BULK_CHUNK));
+                affected += switch (operation) {
+                    case SOFT_DELETE -> memberRepository.softDeleteByIds(chunk);
+                    case HARD_DELETE -> memberRepository.hardDeleteByIds(chunk);
+                    case UPDATE_MEMBERSHIP_TYPE ->
+                            memberRepository.updateMembershipTypeByIds(chunk, request.getMembershipType());
+                };
+            }
+        } else {
+            PredicateSpecification<Member> target = bulkTarget(filter);
+            affected = switch (operation) {
+                case SOFT_DELETE -> memberRepository.update(softDelete().where(target));
+                case HARD_DELETE -> memberRepository.delete(DeleteSpecification.where(target));
+                case UPDATE_MEMBERSHIP_TYPE -> memberRepository.update(changeMembershipType(request.getMembershipType())
+                        .where(target.and(membershipTypeOtherThan(request.getMembershipType()))));
+            };
+        }
+
+        if (affected > 0) {
+            List<UUID> unindexed = removed;
+            afterCommit(() -> {
+                unindexed.forEach(searchIndex::remove);
+                countCache.invalidateAll();
+            });
+            memberCache.evictAll();
+        }
+
+        return new BulkOperationResponse(operation.name(), affected);
+    }
+
+    /**
+     * Runs {@code action} once the surrounding transaction commits, so a rollback leaves the
+     * search index and cached counts untouched; runs it immediately outside a transaction.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Selected from the database even while the index is still building: a member the build
+     * has not reached yet is remembered as removed, so it is never indexed after the delete.
+     */
+    private List<UUID> matchingIds(MemberFilterRequest filter) {
+        if (!searchIndex.isEnabled()) {
+            return List.of();
+        }
+        return memberRepository.findIds(Specification.where(bulkTarget(filter)));
+    }
+
+    /**
+     * The same predicates the member list builds, so a bulk statement only names the filters
+     * that were supplied and can use the filter indexes.
+     */
+    private static PredicateSpecification<Member> bulkTarget(MemberFilterRequest filter) {
+        return MemberSpecifications.matching(
+                filter.getFirstName(),
+                filter.getLastName(),
+                filter.getEmail(),
+                parseEnum(Gender.class, filter.getGender()),
+                parseEnum(MembershipType.class, filter.getMembershipType()),
+                parseEnum(PersonaType.class, filter.getPersona())
+        );
+    }
+
+    private static UpdateSpecification.UpdateOperation<Member> softDelete() {
+        return (root, update, cb) -> {
+            update.set(root.<Boolean>get("deleted"), true);
+            update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        };
+    }
+
+    private static UpdateSpecification.UpdateOperation<Member> changeMembershipType(MembershipType target) {
+        return (root, update, cb) -> {
+            update.set(root.<MembershipType>get("membershipType"), target);
+            update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        };
+    }
+
+    private static PredicateSpecification<Member> membershipTypeOtherThan(MembershipType type) {
+        return (root, cb) -> cb.notEqual(root.get("membershipType"), type);
+    }
+
+    public Page<MemberResponse> filterMembers(int page, int size, MemberFilterRequest filter) {
+        return memberRepository.findViews(toSpecification(filter), PageRequest.of(page, size))
+                .map(MemberMapper::toDto);
     }
 
-    public Page<MemberResponse> filterMembers(
+    /**
+     * Sparse-fieldset variant: only the {@code fields} columns are selected.
+     */
+    public Page<Map<String, Object>> filterMembers(int page, int size, MemberFilterRequest filter, Set<MemberField> fields) {
+        return memberRepository.findFields(toSpecification(filter), fields, PageRequest.of(page, size));
+    }
+
+    public SliceResponse<MemberResponse> sliceMembers(
             int page,
             int size,
-            String firstName,
-            String lastName,
-            String email,
-            String gender,
-            String membershipType,
-            String persona
+            MemberFilterRequest filter,
+            boolean withTotal
     ) {
+        Specification<Member> spec = toSpecification(filter);
 
-        Pageable pageable = PageRequest.of(page, size);
+        Slice<MemberView> slice = memberRepository.sliceViews(spec, PageRequest.of(page, size));
 
-        Gender genderEnum = (gender != null && !gender.isBlank())
-                ? Gender.valueOf(gender.toUpperCase())
-                : null;
+        return new SliceResponse<>(
+                slice.map(MemberMapper::toDto).getContent(),
+                page,
+                size,
+                slice.hasNext(),
+                total(filter, spec, withTotal)
+        );
+    }
 
-        MembershipType membershipEnum = (membershipType != null && !membershipType.isBlank())
-                ? MembershipType.valueOf(membershipType.toUpperCase())
+    public SliceResponse<Map<String, Object>> sliceMembers(
+            int page,
+            int size,
+            MemberFilterRequest filter,
+            boolean withTotal,
+            Set<MemberField> fields
+    ) {
+        Specification<Member> spec = toSpecification(filter);
+
+        Slice<Map<String, Object>> slice = memberRepository.sliceFields(spec, fields, PageRequest.of(page, size));
+
+        return new SliceResponse<>(slice.getContent(), page, size, slice.hasNext(), total(filter, spec, withTotal));
+    }
+
+    private Long total(MemberFilterRequest filter, Specification<Member> spec, boolean withTotal) {
+        return withTotal
+                ? countCache.get(filter, () -> memberRepository.count(spec))
                 : null;
+    }
+
+    public CursorPageResponse<MemberResponse> scrollMembers(
+            MemberFilterRequest filter,
+            String cursor,
+            int size,
+            String sort
+    ) {
+        MemberSortKey sortKey = sortKey(cursor, sort);
+
+        Window<MemberView> window = memberRepository.scrollViews(toSpecification(filter), order(sortKey), size, position(cursor));
+
+        return new CursorPageResponse<>(
+                window.map(MemberMapper::toDto).getContent(),
+                window.size(),
+                window.hasNext(),
+                nextCursor(sortKey, window)
+        );
+    }
+
+    public CursorPageResponse<Map<String, Object>> scrollMembers(
+            MemberFilterRequest filter,
+            String cursor,
+            int size,
+            String sort,
+            Set<MemberField> fields
+    ) {
+        MemberSortKey sortKey = sortKey(cursor, sort);
+
+        Window<Map<String, Object>> window = memberRepository.scrollFields(
+                toSpecification(filter), fields, order(sortKey), size, position(cursor));
+
+        return new CursorPageResponse<>(window.getContent(), window.size(), window.hasNext(), nextCursor(sortKey, window));
+    }
+
+    private static MemberSortKey sortKey(String cursor, String sort) {
+        return (cursor != null && !cursor.isBlank())
+                ? CursorCodec.sortKey(cursor)
+                : MemberSortKey.fromProperty(sort);
+    }
 
-        PersonaType personaEnum = (persona != null && !persona.isBlank())
-                ? PersonaType.valueOf(persona.toUpperCase())
+    private static KeysetScrollPosition position(String cursor) {
+        return (cursor != null && !cursor.isBlank())
+                ? CursorCodec.decode(cursor)
+                : ScrollPosition.keyset();
+    }
+
+    private static Sort order(MemberSortKey sortKey) {
+        return sortKey == MemberSortKey.ID
+                ? Sort.by(MemberSortKey.ID.getProperty())
+                : Sort.by(sortKey.getProperty(), MemberSortKey.ID.getProperty());
+    }
+
+    private static String nextCursor(MemberSortKey sortKey, Window<?> window) {
+        return (window.hasNext() && !window.isEmpty())
+                ? CursorCodec.encode(sortKey, (KeysetScrollPosition) window.positionAt(window.size() - 1))
                 : null;
+    }
 
-        Page<Member> pageResult = memberRepository.filterMembers(
-                firstName, lastName, email, genderEnum, membershipEnum, personaEnum, pageable
+    private Specification<Member> toSpecification(MemberFilterRequest filter) {
+        Specification<Member> spec = MemberSpecifications.filter(
+                null,
+                null,
+                emailEquals(filter.getEmail()),
+                parseEnum(Gender.class, filter.getGender()),
+                parseEnum(MembershipType.class, filter.getMembershipType()),
+                parseEnum(PersonaType.class, filter.getPersona())
         );
 
-        return pageResult.map(MemberMapper::toDto);
+        Set<UUID> ids = null;
+        for (Map.Entry<Field, String> text : textFilters(filter).entrySet()) {
+            Set<UUID> matches = searchIndex.search(text.getKey(), text.getValue());
+            if (matches == null) {
+                spec = spec.and(MemberSpecifications.contains(text.getKey().getProperty(), text.getValue()));
+            } else if (ids == null) {
+                ids = matches;
+            } else {
+                ids.retainAll(matches);
+            }
+        }
+
+        return ids != null ? spec.and(MemberSpecifications.idIn(ids)) : spec;
+    }
+
+    private static boolean hasAnyFilter(MemberFilterRequest filter) {
+        return hasTextFilter(filter)
+                || emailEquals(filter.getEmail()) != null
+                || blankToNull(filter.getGender()) != null
+                || blankToNull(filter.getMembershipType()) != null
+                || blankToNull(filter.getPersona()) != null;
+    }
+
+    private static boolean hasTextFilter(MemberFilterRequest filter) {
+        return !textFilters(filter).isEmpty();
+    }
+
+    private static Map<Field, String> textFilters(MemberFilterRequest filter) {
+        Map<Field, String> texts = new EnumMap<>(Field.class);
+        if (filter.getFirstName() != null && !filter.getFirstName().isBlank()) {
+            texts.put(Field.FIRST_NAME, filter.getFirstName());
+        }
+        if (filter.getLastName() != null && !filter.getLastName().isBlank()) {
+            texts.put(Field.LAST_NAME, filter.getLastName());
+        }
+        String email = emailContains(filter.getEmail());
+        if (email != null) {
+            texts.put(Field.EMAIL, email);
+        }
+        return texts;
     }
 }
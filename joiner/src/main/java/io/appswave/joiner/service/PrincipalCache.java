@@ -0,0 +1,95 @@
+package io.appswave.joiner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by email. Only an immutable
+ * {@link Snapshot} of the user is kept, and every {@link #get} hands out a new detached
+ * {@link User} built from it, so no caller can share or mutate a cached entity. Every insert,
+ * update or delete of a user evicts its entry through {@link PrincipalEvictionListener}; inside a
+ * transaction the eviction is repeated when it completes. Hit, miss and eviction counts are
+ * published as {@code cache.*} meters with {@code cache=principals}.
+ */
+@Service
+public class PrincipalCache {
+
+    private final Cache<String, Snapshot> principals;
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${joiner.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${joiner.security.principal-cache.ttl:5m}") Duration ttl
+    ) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        return Optional.ofNullable(principals.get(email, key -> loader.apply(key).map(Snapshot::of).orElse(null)))
+                .map(Snapshot::toUser);
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            evictNowAndOnCompletion(() -> principals.invalidate(email));
+        }
+    }
+
+    public void evictAll() {
+        evictNowAndOnCompletion(principals::invalidateAll);
+    }
+
+    public CacheStats stats() {
+        return principals.stats();
+    }
+
+    private static void evictNowAndOnCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    record Snapshot(UUID id, String email, String passwordHash, String firstName, String lastName, UserRole role) {
+
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getEmail(), user.getPassword(),
+                    user.getFirstName(), user.getLastName(), user.getUserRole());
+        }
+
+        User toUser() {
+            User user = new User();
+            user.setId(id);
+            user.setEmail(email);
+            user.setPassword(passwordHash);
+            user.setFirstName(firstName);
+            user.setLastName(lastName);
+            user.setUserRole(role);
+            return user;
+        }
+    }
+}
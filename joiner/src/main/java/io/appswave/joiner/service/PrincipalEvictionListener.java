@@ -0,0 +1,27 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link User}: any persisted change to a user, including its role or password
+ * hash, evicts the cached principal for that email. Bulk JPQL statements bypass entity
+ * listeners, so callers issuing them evict the cache themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalEvictionListener {
+
+    private final PrincipalCache principalCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void evict(User user) {
+        principalCache.evict(user.getEmail());
+    }
+}
@@ -0,0 +1,204 @@
+package io.appswave.joiner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact HMAC-SHA256 signed access tokens for the stateless auth mode. A token is
+ * {@code base64url(userId|role|issuedAt|expiresAt|tokenId|email).base64url(signature)}, so it
+ * can be verified without touching the database or a session store. Logout adds the token id
+ * to a revocation list where each entry expires exactly when its token does. Entries are never
+ * evicted early: when the list is full, logout still succeeds by revoking every token of that
+ * user issued up to the logged-out one, which is coarser but never lets a revoked token through.
+ * Both lists are local to this process, so another node accepts a logged-out token until it
+ * expires; keep the token TTL short when running more than one node.
+ */
+@Slf4j
+@Service
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    /** HMAC-SHA256 keys shorter than the 256-bit output can be brute-forced offline. */
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final long revocationMaxSize;
+    /** Token id to token expiry in epoch seconds. */
+    private final Cache<String, Long> revoked;
+    /** User id to the issue time, in epoch seconds, up to which all of that user's tokens are revoked. */
+    private final Cache<UUID, Long> revokedUpTo;
+
+    @Autowired
+    public TokenService(
+            @Value("${joiner.auth.token.secret:}") String secret,
+            @Value("${joiner.auth.token.ttl:15m}") Duration ttl,
+            @Value("${joiner.auth.token.revocation-max-size:100000}") long revocationMaxSize
+    ) {
+        this(secret, ttl, revocationMaxSize, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration ttl, long revocationMaxSize, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("joiner.auth.token.secret is not set; using a random per-process key, " +
+                    "tokens will not survive restarts or validate on other nodes");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < MIN_KEY_BYTES) {
+                throw new IllegalArgumentException("joiner.auth.token.secret must be at least "
+                        + MIN_KEY_BYTES + " bytes, got " + keyBytes.length);
+            }
+        }
+
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.revocationMaxSize = revocationMaxSize;
+        this.revoked = Caffeine.newBuilder()
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(Expiry.<String, Long>creating((tokenId, expiresAt) -> remaining(expiresAt)))
+                .build();
+        // every token issued up to the cutoff expires within one TTL of the write
+        this.revokedUpTo = Caffeine.newBuilder()
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public record IssuedToken(String value, Instant expiresAt) {
+    }
+
+    public IssuedToken issue(User user) {
+        Instant issuedAt = clock.instant();
+        Instant expiresAt = issuedAt.plus(ttl);
+
+        String payload = String.join("|",
+                user.getId().toString(),
+                user.getUserRole().name(),
+                String.valueOf(issuedAt.getEpochSecond()),
+                String.valueOf(expiresAt.getEpochSecond()),
+                UUID.randomUUID().toString(),
+                user.getEmail());
+
+        String body = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(body + "." + ENCODER.encodeToString(sign(body)), expiresAt);
+    }
+
+    /**
+     * Returns the principal carried by a valid, unexpired, unrevoked token. The user is built
+     * from the token claims only (id, email, role) and is never loaded from the database.
+     */
+    public Optional<User> verify(String token) {
+        return parse(token)
+                .filter(claims -> clock.instant().getEpochSecond() < claims.expiresAt())
+                .filter(claims -> revoked.getIfPresent(claims.tokenId()) == null)
+                .filter(claims -> {
+                    Long cutoff = revokedUpTo.getIfPresent(claims.userId());
+                    return cutoff == null || claims.issuedAt() > cutoff;
+                })
+                .map(claims -> {
+                    User user = new User();
+                    user.setId(claims.userId());
+                    user.setEmail(claims.email());
+                    user.setUserRole(claims.role());
+                    return user;
+                });
+    }
+
+    public void revoke(String token) {
+        Optional<Claims> parsed = parse(token)
+                .filter(claims -> clock.instant().getEpochSecond() < claims.expiresAt());
+        if (parsed.isEmpty()) {
+            return;
+        }
+
+        Claims claims = parsed.get();
+        if (revoked.estimatedSize() >= revocationMaxSize) {
+            revoked.cleanUp();
+            if (revoked.estimatedSize() >= revocationMaxSize) {
+                revokedUpTo.asMap().merge(claims.userId(), claims.issuedAt(), Math::max);
+                return;
+            }
+        }
+        revoked.put(claims.tokenId(), claims.expiresAt());
+    }
+
+    private Duration remaining(long expiresAt) {
+        return Duration.ofSeconds(Math.max(0, expiresAt - clock.instant().getEpochSecond()));
+    }
+
+    private record Claims(UUID userId, UserRole role, long issuedAt, long expiresAt, String tokenId, String email) {
+    }
+
+    private Optional<Claims> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        String body = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(body))) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(DECODER.decode(body), StandardCharsets.UTF_8).split("\\|", 6);
+            if (parts.length != 6) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new Claims(
+                    UUID.fromString(parts[0]),
+                    UserRole.valueOf(parts[1]),
+                    Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3]),
+                    parts[4],
+                    parts[5]
+            ));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(body.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
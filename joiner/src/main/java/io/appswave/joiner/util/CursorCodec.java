@@ -0,0 +1,67 @@
+package io.appswave.joiner.util;
+
+import io.appswave.joiner.enums.MemberSortKey;
+import io.appswave.joiner.exception.InvalidRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque continuation tokens for keyset listing. A token carries the sort key and the
+ * (sort value, id) pair of the last row returned, encoded as {@code sort|id|value}.
+ */
+public class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(MemberSortKey sortKey, KeysetScrollPosition position) {
+        Map<String, Object> keys = position.getKeys();
+        Object id = keys.get(MemberSortKey.ID.getProperty());
+        Object value = sortKey == MemberSortKey.ID ? "" : keys.get(sortKey.getProperty());
+
+        String raw = sortKey.getProperty() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberSortKey sortKey(String token) {
+        return MemberSortKey.fromProperty(split(token)[0]);
+    }
+
+    public static KeysetScrollPosition decode(String token) {
+        String[] parts = split(token);
+        MemberSortKey sortKey = MemberSortKey.fromProperty(parts[0]);
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortKey != MemberSortKey.ID) {
+            keys.put(sortKey.getProperty(), parts[2]);
+        }
+        try {
+            keys.put(MemberSortKey.ID.getProperty(), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("cursor.invalid");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String[] split(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("cursor.invalid");
+        }
+
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new InvalidRequestException("cursor.invalid");
+        }
+        return parts;
+    }
+}
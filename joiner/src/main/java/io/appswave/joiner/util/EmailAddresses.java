@@ -0,0 +1,17 @@
+package io.appswave.joiner.util;
+
+import java.util.Locale;
+
+/**
+ * Emails are stored trimmed and in lower case, so lookups and the unique index compare them
+ * exactly on every database regardless of collation.
+ */
+public final class EmailAddresses {
+
+    private EmailAddresses() {
+    }
+
+    public static String normalize(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,49 @@
+package io.appswave.joiner.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class FilterParams {
+
+    /** Escape character for {@link #likeContains}; not special in MySQL or H2 string literals. */
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final Pattern EMAIL_ADDRESS = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+
+    private FilterParams() {
+    }
+
+    public static String blankToNull(String value) {
+        return (value != null && !value.isBlank()) ? value : null;
+    }
+
+    /**
+     * A complete address in the email filter is an exact lookup on the unique email index,
+     * normalized like stored emails; anything else is a substring match.
+     */
+    public static String emailEquals(String value) {
+        return (value != null && EMAIL_ADDRESS.matcher(value.trim()).matches()) ? EmailAddresses.normalize(value) : null;
+    }
+
+    public static String emailContains(String value) {
+        return emailEquals(value) == null ? blankToNull(value) : null;
+    }
+
+    /**
+     * Lower-case {@code LIKE} pattern matching {@code value} anywhere, with {@code %} and {@code _}
+     * taken literally, the way the search index matches it.
+     */
+    public static String likeContains(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
+    }
+
+    public static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        return (value != null && !value.isBlank())
+                ? Enum.valueOf(type, value.toUpperCase())
+                : null;
+    }
+}
@@ -0,0 +1,118 @@
+package io.appswave.joiner.util;
+
+import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.enums.MemberField;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Strong ETags for member representations: {@code "<version>-<language>"}, with a
+ * {@code -cbor} or {@code -smile} suffix for the binary formats and an {@code -f<mask>} suffix
+ * for a sparse fieldset. The language, format and fields are part of the tag because each
+ * changes the representation; responses carrying these tags are built with
+ * {@code ApiResponse.cacheable} so the same inputs always produce the same bytes.
+ */
+public final class MemberEtags {
+
+    private MemberEtags() {
+    }
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    public static String of(MemberResponse member, Locale locale) {
+        return of(member, locale, null);
+    }
+
+    public static String of(MemberResponse member, Locale locale, String accept) {
+        return of(member, locale, accept, null);
+    }
+
+    public static String of(MemberResponse member, Locale locale, String accept, Set<MemberField> fields) {
+        return "\"" + member.getVersion() + "-" + locale.getLanguage() + formatSuffix(accept) + fieldsSuffix(fields) + "\"";
+    }
+
+    private static String fieldsSuffix(Set<MemberField> fields) {
+        if (fields == null) {
+            return "";
+        }
+        int mask = 0;
+        for (MemberField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return "-f" + Integer.toHexString(mask);
+    }
+
+    /**
+     * Suffix for the format the {@code Accept} header will negotiate: the most preferred of JSON,
+     * CBOR and Smile, with JSON winning wildcards as it does in the converter order.
+     */
+    static String formatSuffix(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> types;
+        try {
+            types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return "";
+        }
+        types.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : types) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "-cbor";
+            }
+            if (type.isCompatibleWith(SMILE)) {
+                return "-smile";
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Versions named by the tags of an {@code If-Match} list, {@code null} for {@code *} or no
+     * header. Weak tags and tags that are not ours are skipped, since {@code If-Match} uses
+     * strong comparison; when none is left the set is empty and nothing matches.
+     */
+    public static Set<Long> ifMatchVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i <= ifMatch.length(); i++) {
+            if (i == ifMatch.length() || (ifMatch.charAt(i) == ',' && !quoted)) {
+                Long version = version(ifMatch.substring(start, i).trim());
+                if (version != null) {
+                    versions.add(version);
+                }
+                start = i + 1;
+            } else if (ifMatch.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+        return versions;
+    }
+
+    private static Long version(String tag) {
+        int dash = tag.indexOf('-');
+        if (!tag.startsWith("\"") || !tag.endsWith("\"") || dash < 2) {
+            return null;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, dash));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
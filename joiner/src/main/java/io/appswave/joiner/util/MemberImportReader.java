@@ -0,0 +1,174 @@
+package io.appswave.joiner.util;
+
+import io.appswave.joiner.dto.request.MemberRequest;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads an import body one line at a time. CSV input needs a header row naming the
+ * {@link MemberRequest} properties; NDJSON input is one {@link MemberRequest} object per line.
+ * Rows that cannot be parsed come back with an error key instead of a request.
+ */
+public final class MemberImportReader implements Closeable {
+
+    public record Row(long line, MemberRequest request, String error) {
+    }
+
+    private static final Map<Class<?>, String> ENUM_ERRORS = Map.of(
+            Gender.class, "validation.gender.required",
+            MembershipType.class, "validation.membership.required",
+            PersonaType.class, "validation.persona.required");
+
+    private final BufferedReader reader;
+    private final MemberFileFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long line;
+
+    public MemberImportReader(InputStream body, MemberFileFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Next non-blank row, or {@code null} at end of input.
+     */
+    public Row next() {
+        String text;
+        try {
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (text == null) {
+            return null;
+        }
+
+        if (format == MemberFileFormat.NDJSON) {
+            return fromJson(text);
+        }
+        if (columns == null) {
+            columns = header(text);
+            return next();
+        }
+        return fromCsv(text);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row fromJson(String text) {
+        try {
+            MemberRequest request = objectMapper.readValue(text, MemberRequest.class);
+            request.setEmail(EmailAddresses.normalize(request.getEmail()));
+            return new Row(line, request, null);
+        } catch (MismatchedInputException ex) {
+            return new Row(line, null, ENUM_ERRORS.getOrDefault(ex.getTargetType(), "bad.request"));
+        } catch (JacksonException ex) {
+            return new Row(line, null, "bad.request");
+        }
+    }
+
+    private Row fromCsv(String text) {
+        List<String> values = split(text);
+
+        MemberRequest request = new MemberRequest();
+        request.setFirstName(value(values, "firstname"));
+        request.setLastName(value(values, "lastname"));
+        request.setEmail(EmailAddresses.normalize(value(values, "email")));
+        request.setMobileNumber(value(values, "mobilenumber"));
+
+        try {
+            request.setGender(parseEnum(Gender.class, value(values, "gender")));
+        } catch (IllegalArgumentException ex) {
+            return new Row(line, request, "validation.gender.required");
+        }
+        try {
+            request.setMembershipType(parseEnum(MembershipType.class, value(values, "membershiptype")));
+        } catch (IllegalArgumentException ex) {
+            return new Row(line, request, "validation.membership.required");
+        }
+        try {
+            request.setPersona(parseEnum(PersonaType.class, value(values, "persona")));
+        } catch (IllegalArgumentException ex) {
+            return new Row(line, request, "validation.persona.required");
+        }
+
+        return new Row(line, request, null);
+    }
+
+    private static Map<String, Integer> header(String text) {
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = split(text);
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+        return header;
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value.toUpperCase()) : null;
+    }
+
+    static List<String> split(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
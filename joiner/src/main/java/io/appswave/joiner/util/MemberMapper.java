@@ -3,6 +3,12 @@ package io.appswave.joiner.util;
 
 import io.appswave.joiner.dto.response.MemberResponse;
 import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.MemberField;
+import io.appswave.joiner.repository.MemberView;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 public class MemberMapper {
 
@@ -15,8 +21,43 @@ public class MemberMapper {
                 m.getMobileNumber(),
                 m.getGender().name(),
                 m.getMembershipType().name(),
-                m.getPersona().name()
+                m.getPersona().name(),
+                m.getVersion()
         );
     }
-}
 
+    public static MemberResponse toDto(MemberView m) {
+        return new MemberResponse(
+                m.getId(),
+                m.getFirstName(),
+                m.getLastName(),
+                m.getEmail(),
+                m.getMobileNumber(),
+                m.getGender().name(),
+                m.getMembershipType().name(),
+                m.getPersona().name(),
+                m.getVersion()
+        );
+    }
+
+    /**
+     * The {@code fields} of a response, in {@link MemberField} order, for a sparse fieldset.
+     */
+    public static Map<String, Object> toFields(MemberResponse m, Set<MemberField> fields) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (MemberField field : fields) {
+            selected.put(field.getProperty(), switch (field) {
+                case ID -> m.getId();
+                case FIRST_NAME -> m.getFirstName();
+                case LAST_NAME -> m.getLastName();
+                case EMAIL -> m.getEmail();
+                case MOBILE_NUMBER -> m.getMobileNumber();
+                case GENDER -> m.getGender();
+                case MEMBERSHIP_TYPE -> m.getMembershipType();
+                case PERSONA -> m.getPersona();
+                case VERSION -> m.getVersion();
+            });
+        }
+        return selected;
+    }
+}
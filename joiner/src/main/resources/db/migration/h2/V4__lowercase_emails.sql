@@ -0,0 +1,3 @@
+-- emails are compared exactly; the application stores them trimmed and in lower case
+UPDATE users SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
+UPDATE members SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
@@ -0,0 +1,29 @@
+-- Schema as previously generated by Hibernate; databases created that way are baselined at this version.
+CREATE TABLE users (
+    id BINARY(16) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role ENUM ('ADMIN','USER') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE members (
+    id BINARY(16) NOT NULL,
+    deleted BIT NOT NULL,
+    gender TINYINT NOT NULL,
+    membership_type TINYINT NOT NULL,
+    persona TINYINT NOT NULL,
+    user_id BINARY(16),
+    email VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    mobile_number VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE members ADD CONSTRAINT UKda61ga2jecphdliwvkqyt6sw2 UNIQUE (user_id);
+ALTER TABLE members ADD CONSTRAINT uk_members_email UNIQUE (email);
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+ALTER TABLE members ADD CONSTRAINT FKpj3n6wh5muoeakc485whgs3x5 FOREIGN KEY (user_id) REFERENCES users (id);
@@ -0,0 +1,7 @@
+-- findByDeletedFalse and the unfiltered listing count
+CREATE INDEX idx_members_deleted_id ON members (deleted, id);
+-- equality filters on the member list, slice and export
+CREATE INDEX idx_members_deleted_filters ON members (deleted, gender, membership_type, persona);
+-- cursor listing sorted by name
+CREATE INDEX idx_members_deleted_last_name ON members (deleted, last_name, id);
+CREATE INDEX idx_members_deleted_first_name ON members (deleted, first_name, id);
@@ -0,0 +1,80 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.exception.AuthThrottledException;
+import io.appswave.joiner.service.AuthRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission checks from 4 threads, either all on one IP and email (every thread updates the
+ * same buckets) or spread over 10,000 keys. {@code admit} never runs out of tokens, so every
+ * call takes a token by compare-and-set. {@code reject} uses an empty bucket, which is the
+ * credential-stuffing case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthRateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    private int keys;
+
+    private AuthRateLimiter open;
+    private AuthRateLimiter closed;
+    private String[] ips;
+    private String[] emails;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        open = new AuthRateLimiter(new SimpleMeterRegistry(), true,
+                Integer.MAX_VALUE, Duration.ofNanos(1), Integer.MAX_VALUE, Duration.ofNanos(1), 100_000);
+        closed = new AuthRateLimiter(new SimpleMeterRegistry(), true,
+                1, Duration.ofHours(1), 1, Duration.ofHours(1), 100_000);
+        ips = new String[keys];
+        emails = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            ips[i] = "10.0." + (i / 256) + "." + (i % 256);
+            emails[i] = "user" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public void admit(Cursor cursor) {
+        int i = cursor.next++ % keys;
+        open.acquire(ips[i], emails[i]);
+    }
+
+    @Benchmark
+    public boolean reject(Cursor cursor) {
+        int i = cursor.next++ % keys;
+        try {
+            closed.acquire(ips[i], emails[i]);
+            return true;
+        } catch (AuthThrottledException ex) {
+            return false;
+        }
+    }
+}
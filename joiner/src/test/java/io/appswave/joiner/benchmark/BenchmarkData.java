@@ -0,0 +1,39 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.util.MemberMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Member member(int i) {
+        Member member = new Member();
+        member.setId(new UUID(0x5eed, i));
+        member.setFirstName("First" + i);
+        member.setLastName("Last" + i);
+        member.setEmail("member" + i + "@example.com");
+        member.setMobileNumber("+9627900" + String.format("%05d", i));
+        member.setGender(Gender.values()[i % Gender.values().length]);
+        member.setMembershipType(MembershipType.values()[i % MembershipType.values().length]);
+        member.setPersona(PersonaType.values()[i % PersonaType.values().length]);
+        return member;
+    }
+
+    static List<MemberResponse> responses(int count) {
+        List<MemberResponse> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(MemberMapper.toDto(member(i)));
+        }
+        return responses;
+    }
+}
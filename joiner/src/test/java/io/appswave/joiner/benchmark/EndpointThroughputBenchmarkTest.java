@@ -0,0 +1,336 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.service.MemberSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives login, GET /members/me, a filtered member list and an owner PATCH over real HTTP
+ * against the application running on an in-process H2 database, and reports throughput and
+ * p50/p99 latency per endpoint. Opt-in: {@code mvn -Pe2e test}; tune with
+ * {@code -De2e.members}, {@code -De2e.users}, {@code -De2e.concurrency},
+ * {@code -De2e.warmup} and {@code -De2e.duration} (seconds). Results are also written to
+ * {@code target/e2e-results.json}. In-memory H2 never blocks, so {@code -De2e.db-latency-ms}
+ * adds a simulated network round trip to every statement. That is what makes platform and
+ * virtual request threads ({@code -Dspring.threads.virtual.enabled=true}) comparable.
+ */
+@EnabledIfSystemProperty(named = "e2e", matches = "true")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:e2e-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "security.admin.email=admin@joiner.local",
+        "security.admin.password=benchmark-admin-password",
+        // every client logs in from loopback; the benchmark measures the endpoints, not admission
+        "joiner.auth.rate-limit.enabled=false"
+})
+class EndpointThroughputBenchmarkTest {
+
+    private static final String PASSWORD = "benchmark-user-password";
+    private static final String[] LAST_NAMES = {"Haddad", "Khoury", "Nasser", "Saleh", "Mansour", "Darwish"};
+
+    private final int members = Integer.getInteger("e2e.members", 20_000);
+    private final int users = Integer.getInteger("e2e.users", 50);
+    private final int concurrency = Integer.getInteger("e2e.concurrency", 16);
+    private final int warmupSeconds = Integer.getInteger("e2e.warmup", 3);
+    private final int durationSeconds = Integer.getInteger("e2e.duration", 10);
+    private final boolean virtualThreads = Boolean.getBoolean("spring.threads.virtual.enabled");
+
+    @TestConfiguration
+    static class DatabaseLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor databaseLatencyPostProcessor() {
+            long latencyMillis = Long.getLong("e2e.db-latency-ms", 0);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return latencyMillis > 0 && bean instanceof DataSource dataSource
+                            ? new DelegatingDataSource(dataSource) {
+                                @Override
+                                public Connection getConnection() throws SQLException {
+                                    return withLatency(super.getConnection(), Connection.class, latencyMillis);
+                                }
+                            }
+                            : bean;
+                }
+            };
+        }
+
+        /**
+         * Statements created by the connection sleep for {@code latencyMillis} before each execute call.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> T withLatency(T target, Class<T> type, long latencyMillis) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    Thread.sleep(latencyMillis);
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    return result instanceof PreparedStatement statement && method.getName().startsWith("prepare")
+                            ? withLatency(statement, PreparedStatement.class, latencyMillis)
+                            : result;
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            });
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MemberSearchIndex searchIndex;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private record Result(String endpoint, long requests, long errors, double throughput, double p50, double p99) {
+    }
+
+    @Test
+    void measureEndpoints() throws Exception {
+        List<UUID> memberIds = seed();
+        searchIndex.build();
+
+        String adminCookie = login("admin@joiner.local", "benchmark-admin-password");
+        String[] userCookies = new String[users];
+        for (int i = 0; i < users; i++) {
+            userCookies[i] = login(email(i), PASSWORD);
+        }
+
+        List<Result> results = new ArrayList<>();
+
+        results.add(run("POST /auth/login", i -> post("/api/v1/auth/login", null,
+                "{\"email\":\"" + email(i % users) + "\",\"password\":\"" + PASSWORD + "\"}")));
+
+        results.add(run("GET /members/me", i -> get("/api/v1/members/me", userCookies[i % users])));
+
+        results.add(run("GET /members?filter", i -> get(
+                "/api/v1/members?size=20&gender=female&lastName=" + LAST_NAMES[i % LAST_NAMES.length].substring(0, 4),
+                adminCookie)));
+
+        results.add(run("PATCH /members/{id}", i -> {
+            int user = i % users;
+            return HttpRequest.newBuilder(uri("/api/v1/members/" + memberIds.get(user)))
+                    .header("Cookie", userCookies[user])
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"firstName\":\"User" + i + "\",\"lastName\":\"Bench\",\"email\":\"" + email(user)
+                                    + "\",\"mobileNumber\":\"0790000000\"}"))
+                    .build();
+        }));
+
+        System.out.printf("%nmembers=%d users=%d concurrency=%d duration=%ds threads=%s db-latency=%dms%n",
+                members, users, concurrency, durationSeconds, threads(), Long.getLong("e2e.db-latency-ms", 0));
+        System.out.printf("%-22s %10s %8s %12s %10s %10s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+        for (Result r : results) {
+            System.out.printf("%-22s %10d %8d %12.1f %10.2f %10.2f%n",
+                    r.endpoint(), r.requests(), r.errors(), r.throughput(), r.p50(), r.p99());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("members", members);
+        report.put("users", users);
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", durationSeconds);
+        report.put("threads", threads());
+        report.put("dbLatencyMillis", Long.getLong("e2e.db-latency-ms", 0));
+        report.put("results", results);
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter()
+                .writeValue(new File("target/e2e-results.json"), report);
+
+        results.forEach(r -> assertTrue(r.requests() > 0, r.endpoint()));
+    }
+
+    private String threads() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private Result run(String endpoint, IntFunction<HttpRequest> request) throws Exception {
+        drive(request, warmupSeconds);
+        long start = System.nanoTime();
+        List<long[]> perThread = drive(request, durationSeconds);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long errors = perThread.stream().mapToLong(t -> t[t.length - 1]).sum();
+        long[] latencies = perThread.stream()
+                .flatMapToLong(t -> Arrays.stream(t, 0, t.length - 1))
+                .sorted()
+                .toArray();
+
+        return new Result(
+                endpoint,
+                latencies.length,
+                errors,
+                latencies.length / elapsed,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99)
+        );
+    }
+
+    /**
+     * Each worker returns its latencies in nanoseconds with the error count as the last slot.
+     */
+    private List<long[]> drive(IntFunction<HttpRequest> request, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicInteger sequence = new AtomicInteger();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest next = request.apply(sequence.getAndIncrement());
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(next, HttpResponse.BodyHandlers.discarding());
+                        long took = System.nanoTime() - sent;
+                        if (response.statusCode() >= 400) {
+                            errors++;
+                        }
+                        if (count == samples.length - 1) {
+                            samples = Arrays.copyOf(samples, samples.length * 2);
+                        }
+                        samples[count++] = took;
+                    }
+                    long[] result = Arrays.copyOf(samples, count + 1);
+                    result[count] = errors;
+                    return result;
+                }));
+            }
+
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private List<UUID> seed() {
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<UUID> ownedMembers = new ArrayList<>();
+        List<Object[]> userRows = new ArrayList<>();
+        List<Object[]> memberRows = new ArrayList<>();
+
+        for (int i = 0; i < users; i++) {
+            UUID userId = UUID.randomUUID();
+            UUID memberId = UUID.randomUUID();
+            userRows.add(new Object[]{userId, email(i), hash, "User" + i, "Bench", "USER"});
+            memberRows.add(new Object[]{memberId, "User" + i, "Bench", email(i), 0, 0, 0, userId});
+            ownedMembers.add(memberId);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, email, password, first_name, last_name, role) VALUES (?, ?, ?, ?, ?, ?)",
+                userRows);
+        insertMembers(memberRows);
+
+        Random random = new Random(42);
+        for (int i = 0; i < members; i++) {
+            memberRows.add(new Object[]{
+                    UUID.randomUUID(), "Member" + i, LAST_NAMES[random.nextInt(LAST_NAMES.length)] + i,
+                    "member" + i + "@example.com", random.nextInt(2), random.nextInt(2), random.nextInt(3), null
+            });
+            if (memberRows.size() == 5_000) {
+                insertMembers(memberRows);
+            }
+        }
+        insertMembers(memberRows);
+        return ownedMembers;
+    }
+
+    private void insertMembers(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO members (id, first_name, last_name, email, gender, membership_type, persona, user_id, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, 0)",
+                rows
+        );
+        rows.clear();
+    }
+
+    private String login(String email, String password) throws Exception {
+        HttpResponse<Void> response = client.send(
+                post("/api/v1/auth/login", null, "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode(), email);
+        return response.headers().firstValue("Set-Cookie").orElseThrow().split(";", 2)[0];
+    }
+
+    private HttpRequest get(String path, String cookie) {
+        return HttpRequest.newBuilder(uri(path)).header("Cookie", cookie).GET().build();
+    }
+
+    private HttpRequest post(String path, String cookie, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        return builder.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@bench.local";
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,93 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.exception.DomainException;
+import io.appswave.joiner.exception.ErrorBodies;
+import io.appswave.joiner.exception.MemberNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throws a "member not found" from {@code depth} frames down and turns it into a response body:
+ * the old way (a {@link RuntimeException} with a stack trace, a message lookup and a map
+ * serialised per request) against a {@link DomainException} and a precomputed {@link ErrorBodies}
+ * entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorPathBenchmark {
+
+    private static final String KEY = "member.notfound";
+
+    @Param({"20", "100"})
+    private int depth;
+
+    @Param({"en", "ar"})
+    private String language;
+
+    private ResourceBundleMessageSource messageSource;
+    private ObjectMapper objectMapper;
+    private ErrorBodies errorBodies;
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setUseCodeAsDefaultMessage(true);
+        objectMapper = JsonMapper.builder().build();
+        errorBodies = new ErrorBodies(messageSource, objectMapper);
+        locale = Locale.forLanguageTag(language);
+    }
+
+    @Benchmark
+    public byte[] runtimeException() {
+        try {
+            throwFrom(depth, () -> new RuntimeException(KEY));
+            return null;
+        } catch (RuntimeException ex) {
+            Map<String, String> body = new HashMap<>();
+            body.put("error", messageSource.getMessage(ex.getMessage(), null, ex.getMessage(), locale));
+            return objectMapper.writeValueAsBytes(body);
+        }
+    }
+
+    @Benchmark
+    public byte[] domainException() {
+        try {
+            throwFrom(depth, MemberNotFoundException::new);
+            return null;
+        } catch (DomainException ex) {
+            return errorBodies.get(ex.getMessage(), locale);
+        }
+    }
+
+    private static void throwFrom(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwFrom(depth - 1, exception);
+    }
+}
@@ -0,0 +1,41 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.util.FilterParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three enum lookups {@code filterMembers} does per request, from lower-case query values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilterParamsBenchmark {
+
+    private String gender = "female";
+    private String membershipType = "external";
+    private String persona = "government";
+
+    @Benchmark
+    public void parseFilterEnums(Blackhole blackhole) {
+        blackhole.consume(FilterParams.parseEnum(Gender.class, gender));
+        blackhole.consume(FilterParams.parseEnum(MembershipType.class, membershipType));
+        blackhole.consume(FilterParams.parseEnum(PersonaType.class, persona));
+    }
+}
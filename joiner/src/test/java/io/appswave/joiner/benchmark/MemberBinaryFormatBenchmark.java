@@ -0,0 +1,71 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.dto.response.ApiResponse;
+import io.appswave.joiner.dto.response.MemberResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes and parses a 1,000-member list page as JSON, CBOR and Smile, the formats the member
+ * and auth endpoints negotiate on {@code Accept}. BinaryContentNegotiationTest checks that the
+ * binary pages are the smaller ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemberBinaryFormatBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<MemberResponse>> response;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        Page<MemberResponse> page = new PageImpl<>(
+                BenchmarkData.responses(PAGE_SIZE), PageRequest.of(0, PAGE_SIZE), 250_000);
+        response = ApiResponse.success("Members retrieved successfully", page);
+        payload = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public JsonNode parsePage() {
+        return objectMapper.readTree(payload);
+    }
+}
@@ -0,0 +1,148 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares the old catch-all JPQL filter, where every predicate is {@code (:x IS NULL OR ...)},
+ * with the specification that only emits the filters that were supplied. Both run one page and
+ * one count. Opt-in: {@code mvn test -Dtest=MemberFilterBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:filter-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "security.admin.email=admin@joiner.local",
+        "security.admin.password=benchmark-admin-password"
+})
+class MemberFilterBenchmarkTest {
+
+    private static final String STATIC_WHERE = """
+        FROM Member m
+        WHERE m.deleted = false
+        AND (:firstName IS NULL OR LOWER(m.firstName) LIKE LOWER(CONCAT('%', :firstName, '%')))
+        AND (:lastName IS NULL OR LOWER(m.lastName) LIKE LOWER(CONCAT('%', :lastName, '%')))
+        AND (:email IS NULL OR LOWER(m.email) LIKE LOWER(CONCAT('%', :email, '%')))
+        AND (:gender IS NULL OR m.gender = :gender)
+        AND (:membershipType IS NULL OR m.membershipType = :membershipType)
+        AND (:persona IS NULL OR m.persona = :persona)
+    """;
+    private static final String[] LAST_NAMES = {
+            "Haddad", "Khoury", "Nasser", "Saleh", "Mansour", "Darwish", "Qasem", "Jaber", "Hamdan", "Odeh"
+    };
+    private static final Object[][] FILTERS = {
+            {null, null, Gender.FEMALE, null, null},
+            {null, null, Gender.FEMALE, MembershipType.EXTERNAL, null},
+            {null, null, null, null, PersonaType.GOVERNMENT},
+            {null, "user4217@example.com", null, null, null},
+            {"our", null, null, null, null},
+            {"our", null, Gender.MALE, null, null}
+    };
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareStaticQueryWithSpecification() {
+        int seeded = 0;
+        for (int target : new int[]{100_000, 1_000_000}) {
+            seed(seeded, target);
+            seeded = target;
+
+            for (Object[] f : FILTERS) {
+                String lastName = (String) f[0];
+                String email = (String) f[1];
+                Gender gender = (Gender) f[2];
+                MembershipType membershipType = (MembershipType) f[3];
+                PersonaType persona = (PersonaType) f[4];
+
+                double jpql = measure(() -> staticFilter(lastName, email, gender, membershipType, persona));
+                double spec = measure(() -> memberRepository.findAll(
+                        MemberSpecifications.filter(null, lastName, email, gender, membershipType, persona),
+                        PageRequest.of(0, 20)).getTotalElements());
+
+                System.out.printf("members=%d lastName=%-5s email=%-21s gender=%-6s type=%-8s persona=%-10s jpql=%8.2f ms spec=%8.2f ms%n",
+                        target, lastName, email, gender, membershipType, persona, jpql, spec);
+            }
+        }
+    }
+
+    private long staticFilter(String lastName, String email, Gender gender, MembershipType membershipType, PersonaType persona) {
+        TypedQuery<Member> page = bind(entityManager.createQuery("SELECT m " + STATIC_WHERE, Member.class),
+                lastName, email, gender, membershipType, persona);
+        page.setMaxResults(20).getResultList();
+        return bind(entityManager.createQuery("SELECT COUNT(m) " + STATIC_WHERE, Long.class),
+                lastName, email, gender, membershipType, persona).getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, String lastName, String email,
+                                          Gender gender, MembershipType membershipType, PersonaType persona) {
+        return query.setParameter("firstName", null)
+                .setParameter("lastName", lastName)
+                .setParameter("email", email)
+                .setParameter("gender", gender)
+                .setParameter("membershipType", membershipType)
+                .setParameter("persona", persona);
+    }
+
+    private double measure(Supplier<Long> query) {
+        transactionTemplate.execute(status -> query.get());
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+    }
+
+    private void seed(int from, int to) {
+        Random random = new Random(from);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            batch.add(new Object[]{
+                    UUID.randomUUID(), "Member", LAST_NAMES[random.nextInt(LAST_NAMES.length)], "user" + i + "@example.com",
+                    random.nextInt(2), random.nextInt(2), random.nextInt(3)
+            });
+            if (batch.size() == 5_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO members (id, first_name, last_name, email, gender, membership_type, persona, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, false, 0)",
+                batch
+        );
+        batch.clear();
+    }
+}
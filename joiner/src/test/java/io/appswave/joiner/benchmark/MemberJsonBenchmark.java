@@ -0,0 +1,66 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.dto.response.ApiResponse;
+import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.enums.MemberField;
+import io.appswave.joiner.util.MemberMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialises the list endpoint's response body, {@code ApiResponse<Page<MemberResponse>>},
+ * at the default and the largest common page sizes, in full and as the
+ * {@code fields=id,firstName,lastName} sparse fieldset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemberJsonBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"", "id,firstName,lastName"})
+    private String fields;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<?>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        Set<MemberField> selected = MemberField.parse(fields);
+        List<MemberResponse> members = BenchmarkData.responses(pageSize);
+        List<?> content = selected == null
+                ? members
+                : members.stream().map(m -> MemberMapper.toFields(m, selected)).toList();
+        Page<?> page = new PageImpl<>(content, PageRequest.of(0, pageSize), 250_000);
+        response = ApiResponse.success("Members retrieved successfully", page);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
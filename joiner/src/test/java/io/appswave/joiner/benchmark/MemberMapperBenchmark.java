@@ -0,0 +1,38 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.util.MemberMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemberMapperBenchmark {
+
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        member = BenchmarkData.member(0);
+    }
+
+    @Benchmark
+    public MemberResponse toDto() {
+        return MemberMapper.toDto(member);
+    }
+}
@@ -0,0 +1,149 @@
+package io.appswave.joiner.benchmark;
+
+import io.appswave.joiner.dto.request.MemberFilterRequest;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberSpecifications;
+import io.appswave.joiner.service.MemberSearchIndex;
+import io.appswave.joiner.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the trigram index against the LIKE query the service falls back to on an embedded
+ * H2 database, and checks that both paths count the same matches.
+ * Opt-in: {@code mvn test -Dtest=MemberSearchBenchmarkTest -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "security.admin.email=admin@joiner.local",
+        "security.admin.password=benchmark-admin-password"
+})
+class MemberSearchBenchmarkTest {
+
+    private static final String[] SYLLABLES = {
+            "mo", "ha", "mad", "ah", "om", "ar", "li", "na", "sa", "ra", "you", "sef", "kha", "led", "da",
+            "di", "saw", "al", "dad", "kho", "ury", "nas", "ser", "qa", "sem", "man", "sour", "dar", "wish", "jaz"
+    };
+    private static final String[][] QUERIES = {
+            {"firstName", "sefkha"},
+            {"lastName", "ourywi"},
+            {"lastName", "dadsa"},
+            {"email", "user4217"},
+            {"email", "example"}
+    };
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberSearchIndex searchIndex;
+
+    @Test
+    void compareIndexWithLike() {
+        int seeded = 0;
+        for (int target : new int[]{100_000, 1_000_000}) {
+            seed(seeded, target);
+            seeded = target;
+            searchIndex.build();
+
+            for (String[] query : QUERIES) {
+                MemberFilterRequest filter = filter(query[0], query[1]);
+
+                long likeMatches = like(filter);
+                double like = measure(() -> like(filter));
+                long indexMatches = indexed(filter);
+                double index = measure(() -> indexed(filter));
+
+                assertTrue(likeMatches > 0, query[0] + "~" + query[1]);
+                assertEquals(likeMatches, indexMatches, query[0] + "~" + query[1]);
+                log.info("members={} {}~{} like={} ms index={} ms", target, query[0], query[1],
+                        String.format("%.2f", like), String.format("%.2f", index));
+            }
+        }
+    }
+
+    private long indexed(MemberFilterRequest filter) {
+        return memberService.filterMembers(0, 20, filter).getTotalElements();
+    }
+
+    private long like(MemberFilterRequest filter) {
+        return memberRepository.findViews(MemberSpecifications.filter(
+                filter.getFirstName(), filter.getLastName(), filter.getEmail(), null, null, null),
+                PageRequest.of(0, 20)).getTotalElements();
+    }
+
+    private static double measure(Runnable query) {
+        query.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+    }
+
+    private void seed(int from, int to) {
+        Random random = new Random(from);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            String first = name(random);
+            String last = name(random);
+            batch.add(new Object[]{
+                    UUID.randomUUID(), first, last, "user" + i + "@example.com",
+                    random.nextInt(2), random.nextInt(2), random.nextInt(2)
+            });
+            if (batch.size() == 5_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0, n = 2 + random.nextInt(2); i < n; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private static MemberFilterRequest filter(String field, String term) {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        switch (field) {
+            case "firstName" -> filter.setFirstName(term);
+            case "lastName" -> filter.setLastName(term);
+            default -> filter.setEmail(term);
+        }
+        return filter;
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO members (id, first_name, last_name, email, gender, membership_type, persona, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, false, 0)",
+                batch
+        );
+        batch.clear();
+    }
+}
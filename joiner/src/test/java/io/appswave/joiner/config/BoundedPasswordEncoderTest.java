@@ -0,0 +1,108 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolExecutor executor = new PasswordHashingConfig().passwordHashingExecutor(1, 1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testDelegatesAndRecordsHashTime() {
+        BoundedPasswordEncoder encoder = encoder(new PlainEncoder(null), Duration.ofSeconds(1));
+
+        assertEquals("{plain}secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "{plain}secret"));
+
+        assertEquals(1, meterRegistry.get("joiner.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("joiner.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        BoundedPasswordEncoder encoder = encoder(new PlainEncoder(release), Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (executor.getQueue().size() < 1) {
+            Thread.sleep(5);
+        }
+
+        HashingCapacityExceededException ex = assertThrows(HashingCapacityExceededException.class,
+                () -> encoder.encode("c"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("joiner.password.hash.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("joiner.password.hash.queue").gauge().value());
+
+        release.countDown();
+        assertEquals("{plain}a", running.get());
+        assertEquals("{plain}b", queued.get());
+    }
+
+    @Test
+    void testRejectsAndDequeuesWhenNotStartedInTime() throws Exception {
+        BoundedPasswordEncoder encoder = encoder(new PlainEncoder(release), Duration.ofMillis(50));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        while (executor.getActiveCount() < 1) {
+            Thread.sleep(5);
+        }
+
+        assertThrows(HashingCapacityExceededException.class, () -> encoder.matches("b", "{plain}b"));
+        assertEquals(0, executor.getQueue().size());
+
+        Thread.sleep(100);
+        assertFalse(running.isDone());
+        release.countDown();
+        assertEquals("{plain}a", running.get());
+        assertEquals(1.0, meterRegistry.get("joiner.password.hash.rejected").counter().count());
+    }
+
+    private BoundedPasswordEncoder encoder(PasswordEncoder delegate, Duration admissionWait) {
+        return new BoundedPasswordEncoder(delegate, executor, meterRegistry, admissionWait, 2);
+    }
+
+    private record PlainEncoder(CountDownLatch gate) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("{plain}" + rawPassword);
+        }
+
+        private void await() {
+            if (gate == null) {
+                return;
+            }
+            try {
+                gate.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.exception.DatabaseCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionGuardDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource pool = mock(DataSource.class);
+    private final ConnectionGuardDataSource guard =
+            new ConnectionGuardDataSource(pool, 1, Duration.ofMillis(50), 3, meterRegistry);
+
+    @Test
+    void testRejectsWhenAllPermitsAreCheckedOut() throws Exception {
+        when(pool.getConnection()).thenAnswer(i -> mock(Connection.class));
+
+        Connection held = guard.getConnection();
+
+        DatabaseCapacityExceededException ex =
+                assertThrows(DatabaseCapacityExceededException.class, guard::getConnection);
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("joiner.datasource.guard.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("joiner.datasource.guard.active").gauge().value());
+
+        held.close();
+        guard.getConnection().close();
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    void testClosingTwiceReturnsOnePermit() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+
+        Connection first = guard.getConnection();
+        first.close();
+        first.close();
+
+        guard.getConnection();
+        assertThrows(DatabaseCapacityExceededException.class, guard::getConnection);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void testFailedCheckoutReturnsPermit() throws Exception {
+        when(pool.getConnection()).thenThrow(new SQLException("down")).thenAnswer(i -> mock(Connection.class));
+
+        assertThrows(SQLException.class, guard::getConnection);
+        assertNotNull(guard.getConnection());
+    }
+}
@@ -0,0 +1,98 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("seed")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seed-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "joiner.seed.users=30",
+        "joiner.seed.members=2500",
+        "joiner.seed.batch-size=400",
+        "joiner.seed.password-pool=3",
+        "joiner.seed.persona-weights=0,1,0"
+})
+class DataSeederTest {
+
+    @Autowired
+    private DataSeeder dataSeeder;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void testSeedsMembersUsersAndDistributions() {
+        assertEquals(2500, memberRepository.countByEmailEndingWith(DataSeeder.EMAIL_DOMAIN));
+        assertEquals(30, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM members m JOIN users u ON u.id = m.user_id WHERE u.email = m.email",
+                Integer.class));
+        assertEquals(2500, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM members WHERE persona = 1", Integer.class));
+
+        String hash = jdbcTemplate.queryForObject(
+                "SELECT password FROM users WHERE email = ?", String.class,
+                jdbcTemplate.queryForObject("SELECT email FROM members WHERE user_id IS NOT NULL ORDER BY email LIMIT 1", String.class));
+        assertTrue(passwordEncoder.matches(DataSeeder.PASSWORD_PREFIX + "0", hash)
+                || passwordEncoder.matches(DataSeeder.PASSWORD_PREFIX + "1", hash)
+                || passwordEncoder.matches(DataSeeder.PASSWORD_PREFIX + "2", hash));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT password) FROM users WHERE email LIKE ?", Integer.class, "%" + DataSeeder.EMAIL_DOMAIN));
+    }
+
+    @Test
+    void testSecondRunSkipsWhenComplete() throws Exception {
+        dataSeeder.run();
+        assertEquals(2500, memberRepository.countByEmailEndingWith(DataSeeder.EMAIL_DOMAIN));
+    }
+
+    @Test
+    void testResumesAfterHighestIndexWhenRowsWereDeleted() throws Exception {
+        String email = jdbcTemplate.queryForObject(
+                "SELECT email FROM members WHERE email LIKE ?", String.class, "%.100" + DataSeeder.EMAIL_DOMAIN);
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM members WHERE email = ?", email);
+        jdbcTemplate.update("DELETE FROM members WHERE email = ?", email);
+        try {
+            assertEquals(2500, dataSeeder.resumeIndex());
+            dataSeeder.run();
+            assertEquals(2499, memberRepository.countByEmailEndingWith(DataSeeder.EMAIL_DOMAIN));
+        } finally {
+            new SimpleJdbcInsert(jdbcTemplate).withTableName("members").execute(row);
+        }
+    }
+
+    @Test
+    void testPickFollowsWeights() {
+        int[] weights = DataSeeder.weights(new int[]{70, 30}, 2, "membership");
+        Random random = new Random(1);
+        int first = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (DataSeeder.pick(weights, random) == 0) {
+                first++;
+            }
+        }
+        assertEquals(7000, first, 200);
+    }
+
+    @Test
+    void testWeightsMustMatchEnum() {
+        assertThrows(IllegalArgumentException.class, () -> DataSeeder.weights(new int[]{1, 2}, 3, "persona"));
+        assertThrows(IllegalArgumentException.class, () -> DataSeeder.weights(new int[]{0, 0}, 2, "gender"));
+    }
+}
@@ -0,0 +1,36 @@
+package io.appswave.joiner.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MySqlCursorFetchConfigTest {
+
+    @Test
+    void testMySqlPoolGetsCursorFetch() {
+        HikariDataSource dataSource = pool("jdbc:mysql://localhost:3306/joiner");
+
+        MySqlCursorFetchConfig.mySqlCursorFetchPostProcessor().postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertEquals("true", dataSource.getDataSourceProperties().getProperty(MySqlCursorFetchConfig.USE_CURSOR_FETCH));
+    }
+
+    @Test
+    void testExplicitSettingAndOtherDatabasesAreLeftAlone() {
+        HikariDataSource explicit = pool("jdbc:mysql://localhost:3306/joiner?useCursorFetch=false");
+        HikariDataSource h2 = pool("jdbc:h2:mem:joiner");
+
+        MySqlCursorFetchConfig.enableCursorFetch(explicit);
+        MySqlCursorFetchConfig.enableCursorFetch(h2);
+
+        assertTrue(explicit.getDataSourceProperties().isEmpty());
+        assertTrue(h2.getDataSourceProperties().isEmpty());
+    }
+
+    private static HikariDataSource pool(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        return dataSource;
+    }
+}
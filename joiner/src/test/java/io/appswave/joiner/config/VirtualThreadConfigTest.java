@@ -0,0 +1,30 @@
+package io.appswave.joiner.config;
+
+import io.appswave.joiner.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PinnedThreadMonitor pinnedThreadMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testGuardsDataSourceAndMonitorsPinning() {
+        assertInstanceOf(ConnectionGuardDataSource.class, dataSource);
+        assertTrue(pinnedThreadMonitor.isRunning());
+        assertTrue(userRepository.findByEmail("admin@joiner.test").isPresent());
+    }
+}
@@ -0,0 +1,79 @@
+package io.appswave.joiner.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "joiner.auth.rate-limit.email.burst=2",
+        "joiner.auth.rate-limit.email.refill=1m"
+})
+@AutoConfigureMockMvc
+class AuthThrottleTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testThrottledLoginIsRejectedBeforeHashing() throws Exception {
+        mockMvc.perform(login("admin@joiner.test", "wrong-password-1")).andExpect(status().isUnauthorized());
+        mockMvc.perform(login("admin@joiner.test", "wrong-password-2")).andExpect(status().isUnauthorized());
+
+        double hashes = hashes();
+        mockMvc.perform(login("admin@joiner.test", "admin-password-123").header(HttpHeaders.ACCEPT_LANGUAGE, "ar"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+                .andExpect(jsonPath("$.error").value("محاولات تسجيل دخول كثيرة جدًا. يرجى المحاولة لاحقًا."));
+
+        assertEquals(hashes, hashes());
+    }
+
+    @Test
+    void testThrottledEmailCanStillSignInFromAnotherAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(login("admin@joiner.test", "wrong-password-1")
+                    .with(request -> { request.setRemoteAddr("10.0.0.66"); return request; }));
+        }
+
+        mockMvc.perform(login("admin@joiner.test", "admin-password-123")
+                        .with(request -> { request.setRemoteAddr("10.0.0.1"); return request; }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRegisterSharesTheEmailBucket() throws Exception {
+        String body = """
+                {"email":"throttled@joiner.test","password":"password-123","firstName":"T","lastName":"T"}
+                """;
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"email\":\"throttled@joiner.test\",\"password\":\"wrong-password-1\"}"));
+        }
+
+        mockMvc.perform(post("/api/v1/auth/register").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private static MockHttpServletRequestBuilder login(String email, String password) {
+        return post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+    }
+
+    private double hashes() {
+        return meterRegistry.find("joiner.password.hash").timers().stream().mapToDouble(t -> t.count()).sum();
+    }
+}
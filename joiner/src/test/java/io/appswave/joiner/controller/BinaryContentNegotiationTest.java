@@ -0,0 +1,131 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.node.StringNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+class BinaryContentNegotiationTest extends MemberApiTestSupport {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+    private final ObjectMapper smile = SmileMapper.builder().build();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Member member = member("Binary" + i, "Format", "binary" + i + "@members.test");
+            member.setGender(Gender.MALE);
+            member.setMembershipType(MembershipType.EXTERNAL);
+            member.setPersona(PersonaType.GOVERNMENT);
+            save(member);
+        }
+    }
+
+    @Test
+    void testMemberPageInEveryFormat() throws Exception {
+        JsonNode expected = normalize(read(page(), MediaType.APPLICATION_JSON, json));
+
+        assertFalse(expected.get("data").get("content").isEmpty());
+        assertEquals(expected, normalize(read(page(), MediaType.APPLICATION_CBOR, cbor)));
+        assertEquals(expected, normalize(read(page(), SMILE, smile)));
+    }
+
+    @Test
+    void testNegotiatedResponsesVaryOnAccept() throws Exception {
+        MvcResult jsonPage = mockMvc.perform(page().accept(MediaType.APPLICATION_JSON)).andReturn();
+        MvcResult smilePage = mockMvc.perform(page().accept(SMILE)).andReturn();
+
+        assertEquals(List.of(HttpHeaders.ACCEPT), jsonPage.getResponse().getHeaders(HttpHeaders.VARY));
+        assertEquals(List.of(HttpHeaders.ACCEPT), smilePage.getResponse().getHeaders(HttpHeaders.VARY));
+        assertTrue(smilePage.getResponse().getContentAsByteArray().length
+                < jsonPage.getResponse().getContentAsByteArray().length);
+
+        byte[] credentials = cbor.writeValueAsBytes(Map.of("email", "admin@joiner.test", "password", "admin-password-123"));
+        MvcResult login = mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_CBOR)
+                .content(credentials).accept(MediaType.APPLICATION_CBOR)).andReturn();
+        assertEquals(List.of(HttpHeaders.ACCEPT), login.getResponse().getHeaders(HttpHeaders.VARY));
+    }
+
+    @Test
+    void testLoginAcceptsAndReturnsCbor() throws Exception {
+        byte[] credentials = cbor.writeValueAsBytes(Map.of("email", "admin@joiner.test", "password", "admin-password-123"));
+
+        JsonNode body = read(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_CBOR).content(credentials),
+                MediaType.APPLICATION_CBOR, cbor);
+
+        assertTrue(body.get("success").asBoolean());
+        assertEquals("admin@joiner.test", body.get("data").get("email").asString());
+    }
+
+    @Test
+    void testErrorsStayJson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/members/" + UUID.randomUUID())
+                        .with(admin())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        assertEquals(400, result.getResponse().getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, result.getResponse().getContentType());
+        assertEquals("Member not found.", json.readTree(result.getResponse().getContentAsByteArray()).get("error").asString());
+    }
+
+    private MockHttpServletRequestBuilder page() {
+        return get("/api/v1/members").param("size", "5").with(admin());
+    }
+
+    /**
+     * Drops the per-request timestamp and turns UUIDs, which the binary formats write as 16 raw
+     * bytes, back into their text form.
+     */
+    private static JsonNode normalize(JsonNode node) {
+        if (node.isBinary() && node.binaryValue().length == 16) {
+            ByteBuffer bytes = ByteBuffer.wrap(node.binaryValue());
+            return StringNode.valueOf(new UUID(bytes.getLong(), bytes.getLong()).toString());
+        }
+        if (node instanceof ObjectNode object) {
+            object.remove("timestamp");
+            object.properties().forEach(field -> field.setValue(normalize(field.getValue())));
+        }
+        if (node instanceof ArrayNode array) {
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, normalize(array.get(i)));
+            }
+        }
+        return node;
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request,
+                          MediaType mediaType, ObjectMapper mapper) throws Exception {
+        MvcResult result = mockMvc.perform(request.accept(mediaType)).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus(), result.getResponse().getContentAsString());
+        assertTrue(mediaType.isCompatibleWith(MediaType.valueOf(result.getResponse().getContentType())),
+                result.getResponse().getContentType());
+        return mapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
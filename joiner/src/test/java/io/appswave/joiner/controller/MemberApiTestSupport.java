@@ -0,0 +1,95 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.enums.UserRole;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+
+/**
+ * Shared fixture for the member API tests: one application context with MockMvc, helpers
+ * that save users and members and remember them, and a teardown that deletes exactly those
+ * rows so tests sharing the context do not see each other's data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+abstract class MemberApiTestSupport {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> savedMembers = new ArrayList<>();
+    private final List<UUID> savedUsers = new ArrayList<>();
+
+    @AfterEach
+    void deleteSavedRows() {
+        savedMembers.forEach(id -> jdbcTemplate.update("DELETE FROM members WHERE id = ?", id));
+        savedUsers.forEach(id -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", id));
+        savedMembers.clear();
+        savedUsers.clear();
+    }
+
+    protected User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("unused");
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setUserRole(UserRole.USER);
+        user = userRepository.save(user);
+        savedUsers.add(user.getId());
+        return user;
+    }
+
+    /** A female, internal, individual member; callers change what their test depends on. */
+    protected static Member member(String firstName, String lastName, String email) {
+        Member member = new Member();
+        member.setFirstName(firstName);
+        member.setLastName(lastName);
+        member.setEmail(email);
+        member.setGender(Gender.FEMALE);
+        member.setMembershipType(MembershipType.INTERNAL);
+        member.setPersona(PersonaType.INDIVIDUAL);
+        return member;
+    }
+
+    protected Member save(Member member) {
+        Member saved = memberRepository.save(member);
+        savedMembers.add(saved.getId());
+        return saved;
+    }
+
+    protected RequestPostProcessor admin() {
+        return as(userRepository.findByEmail("admin@joiner.test").orElseThrow());
+    }
+
+    protected static RequestPostProcessor as(User user) {
+        return authentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,92 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class MemberEtagTest extends MemberApiTestSupport {
+
+    private static final String BODY = """
+            {"firstName":"Renamed","lastName":"User","email":"etag@members.test","mobileNumber":"1"}
+            """;
+
+    private static final String REVALIDATE = "no-cache, private";
+
+    private User owner;
+    private Member owned;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("etag@joiner.test");
+
+        Member member = member("Etag", "User", "etag@members.test");
+        member.setUser(owner);
+        owned = save(member);
+    }
+
+    @Test
+    void testIfNoneMatchReturnsNotModifiedWithoutBody() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/members/me").with(as(owner)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, "Accept-Language, Accept"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE))
+                .andExpect(jsonPath("$.timestamp").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals("\"0-en\"", etag);
+
+        mockMvc.perform(get("/api/v1/members/me").with(as(owner)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, "Accept-Language, Accept"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/members/me").with(as(owner))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "ar"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-ar\""));
+    }
+
+    @Test
+    void testPatchChangesEtag() throws Exception {
+        mockMvc.perform(patch("/api/v1/members/" + owned.getId()).with(as(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"0-en\"")
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-en\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE));
+
+        mockMvc.perform(get("/api/v1/members/me").with(as(owner)).header(HttpHeaders.IF_NONE_MATCH, "\"0-en\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.firstName").value("Renamed"));
+    }
+
+    @Test
+    void testIfMatchListAcceptsAnyListedVersion() throws Exception {
+        mockMvc.perform(patch("/api/v1/members/" + owned.getId()).with(as(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"7-en\", \"0-ar\"")
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-en\""));
+    }
+
+    @Test
+    void testStaleIfMatchIsRejected() throws Exception {
+        mockMvc.perform(patch("/api/v1/members/" + owned.getId()).with(as(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"7-en\"")
+                        .content(BODY))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals("Etag", memberRepository.findById(owned.getId()).orElseThrow().getFirstName());
+    }
+}
@@ -0,0 +1,123 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.PersonaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class MemberSparseFieldsTest extends MemberApiTestSupport {
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+
+    private Member first;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 4; i >= 0; i--) {
+            Member member = member("First" + i, "Sparse" + i, "sparse" + i + "@members.test");
+            member.setMobileNumber("0790000000");
+            member.setPersona(PersonaType.BUSINESS);
+            first = save(member);
+        }
+    }
+
+    @Test
+    void testPageReturnsOnlyRequestedFields() throws Exception {
+        JsonNode data = data(list().param("fields", "lastName,id,firstName"));
+
+        assertEquals(5, data.get("totalElements").asInt());
+        for (JsonNode member : data.get("content")) {
+            assertEquals(List.of("id", "firstName", "lastName"), new ArrayList<>(member.propertyNames()));
+        }
+    }
+
+    @Test
+    void testSliceReturnsOnlyRequestedFields() throws Exception {
+        JsonNode data = data(list().param("mode", "slice").param("size", "3").param("fields", "gender"));
+
+        assertTrue(data.get("hasNext").asBoolean());
+        assertEquals(3, data.get("content").size());
+        assertEquals("FEMALE", data.get("content").get(0).get("gender").asString());
+        assertEquals(1, data.get("content").get(0).size());
+    }
+
+    @Test
+    void testCursorWalksTheSameOrderWithoutTheSortColumn() throws Exception {
+        List<String> firstNames = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = list().param("mode", "cursor").param("size", "2")
+                    .param("sort", "lastName").param("fields", "firstName");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode data = data(request);
+            data.get("content").forEach(member -> {
+                assertEquals(1, member.size());
+                firstNames.add(member.get("firstName").asString());
+            });
+            cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asString();
+        } while (cursor != null);
+
+        assertEquals(List.of("First0", "First1", "First2", "First3", "First4"), firstNames);
+    }
+
+    @Test
+    void testSingleMemberFieldsAndEtag() throws Exception {
+        MvcResult full = mockMvc.perform(get("/api/v1/members/" + first.getId()).with(admin())).andReturn();
+        MvcResult sparse = mockMvc.perform(get("/api/v1/members/" + first.getId()).param("fields", "email").with(admin())).andReturn();
+
+        JsonNode data = json.readTree(sparse.getResponse().getContentAsString()).get("data");
+        assertEquals(1, data.size());
+        assertEquals("sparse0@members.test", data.get("email").asString());
+        assertNotEquals(full.getResponse().getHeader(HttpHeaders.ETAG), sparse.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testUnknownFieldIsRejected() throws Exception {
+        MvcResult result = mockMvc.perform(list().param("fields", "id,password")).andReturn();
+
+        assertEquals(400, result.getResponse().getStatus());
+        assertEquals("Unsupported field in the fields parameter.",
+                json.readTree(result.getResponse().getContentAsString()).get("error").asString());
+    }
+
+    @Test
+    void testUnknownModeAndOutOfRangeSlicePageAreRejected() throws Exception {
+        MvcResult mode = mockMvc.perform(list().param("mode", "everything")).andReturn();
+        assertEquals(400, mode.getResponse().getStatus());
+        assertEquals("Unsupported listing mode. Use offset, slice or cursor.",
+                json.readTree(mode.getResponse().getContentAsString()).get("error").asString());
+
+        for (String size : List.of("0", "101")) {
+            MvcResult page = mockMvc.perform(list().param("mode", "slice").param("size", size)).andReturn();
+            assertEquals(400, page.getResponse().getStatus());
+            assertEquals("Slice and cursor pages need a page of zero or more and a size between 1 and 100.",
+                    json.readTree(page.getResponse().getContentAsString()).get("error").asString());
+        }
+
+        assertEquals(5, data(list().param("size", "500")).get("totalElements").asInt());
+    }
+
+    private MockHttpServletRequestBuilder list() {
+        return get("/api/v1/members").param("persona", "BUSINESS").with(admin());
+    }
+
+    private JsonNode data(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertEquals(200, result.getResponse().getStatus(), result.getResponse().getContentAsString());
+        return json.readTree(result.getResponse().getContentAsString()).get("data");
+    }
+}
@@ -0,0 +1,113 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.config.SqlStatsResponseAdvice;
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Statement budgets per endpoint. A new lazy load or N+1 in one of these paths raises the
+ * X-Sql-Statements count and fails the build.
+ */
+class MemberSqlBudgetTest extends MemberApiTestSupport {
+
+    private User owner;
+    private Member owned;
+    private Member other;
+
+    @BeforeEach
+    void setUp() {
+        // every other member has a linked user, so a lazy-load regression shows up once per row on a page
+        for (int i = 0; i < 15; i++) {
+            other = save(member("member" + i, i % 2 == 0 ? saveUser("member" + i + "@budget.test") : null));
+        }
+
+        owner = saveUser("owner@budget.test");
+        owned = save(member("owner", owner));
+    }
+
+    @Test
+    void testListBudget() throws Exception {
+        assertBudget(get("/api/v1/members").with(admin()), 2);
+    }
+
+    @Test
+    void testFilteredListBudget() throws Exception {
+        assertBudget(get("/api/v1/members").param("gender", "FEMALE").param("membershipType", "INTERNAL").with(admin()), 2);
+    }
+
+    @Test
+    void testSliceBudget() throws Exception {
+        assertBudget(get("/api/v1/members").param("mode", "slice").with(admin()), 1);
+    }
+
+    @Test
+    void testCursorBudget() throws Exception {
+        assertBudget(get("/api/v1/members").param("mode", "cursor").param("sort", "lastName").with(admin()), 1);
+    }
+
+    @Test
+    void testSparseListBudget() throws Exception {
+        assertBudget(get("/api/v1/members").param("fields", "id,firstName,lastName").with(admin()), 2);
+        assertBudget(get("/api/v1/members").param("mode", "cursor").param("fields", "firstName").with(admin()), 1);
+    }
+
+    @Test
+    void testEntityHeaderCountsEntitiesNotProjectedRows() throws Exception {
+        MvcResult list = mockMvc.perform(get("/api/v1/members").with(admin())).andReturn();
+        assertEquals("0", list.getResponse().getHeader(SqlStatsResponseAdvice.ENTITIES_HEADER));
+
+        MvcResult one = mockMvc.perform(get("/api/v1/members/" + other.getId()).with(admin())).andReturn();
+        assertNotEquals("0", one.getResponse().getHeader(SqlStatsResponseAdvice.ENTITIES_HEADER));
+    }
+
+    @Test
+    void testGetBudget() throws Exception {
+        assertBudget(get("/api/v1/members/" + other.getId()).with(admin()), 1);
+        assertBudget(get("/api/v1/members/" + other.getId()).with(admin()), 0);
+    }
+
+    @Test
+    void testMyProfileBudget() throws Exception {
+        assertBudget(get("/api/v1/members/me").with(as(owner)), 1);
+        assertBudget(get("/api/v1/members/me").with(as(owner)), 0);
+    }
+
+    @Test
+    void testOwnerPatchBudget() throws Exception {
+        assertBudget(patch("/api/v1/members/" + owned.getId())
+                .with(as(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"firstName":"Renamed","lastName":"User","email":"owner@members.test","mobileNumber":"1"}
+                        """), 3);
+    }
+
+    @Test
+    void testSoftDeleteBudget() throws Exception {
+        assertBudget(delete("/api/v1/members/" + other.getId()).with(admin()), 2);
+    }
+
+    private void assertBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+
+        assertTrue(result.getResponse().getStatus() < 400, result.getResponse().getContentAsString());
+        String statements = result.getResponse().getHeader(SqlStatsResponseAdvice.STATEMENTS_HEADER);
+        assertNotNull(statements);
+        assertTrue(Integer.parseInt(statements) <= budget,
+                result.getRequest().getMethod() + " " + result.getRequest().getRequestURI() + " ran " + statements + " statements, budget is " + budget);
+    }
+
+    private static Member member(String name, User user) {
+        Member member = member(name, "Budget", name + "@members.test");
+        member.setUser(user);
+        return member;
+    }
+}
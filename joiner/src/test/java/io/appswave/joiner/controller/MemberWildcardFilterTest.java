@@ -0,0 +1,66 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.service.MemberSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class MemberWildcardFilterTest extends MemberApiTestSupport {
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+
+    @Autowired
+    private MemberSearchIndex searchIndex;
+
+    private final List<Member> indexed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (Member member : List.of(
+                member("Under_score", "Wildcard", "underscore@wildcard.test"),
+                member("Underxscore", "Wildcard", "underxscore@wildcard.test"),
+                member("Hundred%", "Wildcard", "percent@wildcard.test"))) {
+            Member saved = save(member);
+            searchIndex.put(saved);
+            indexed.add(saved);
+        }
+    }
+
+    @AfterEach
+    void unindex() {
+        indexed.forEach(member -> searchIndex.remove(member.getId()));
+    }
+
+    @Test
+    void testWildcardsInTextFiltersMatchLiterally() throws Exception {
+        // two characters are below the trigram size, so these always take the LIKE path
+        assertEquals(List.of("Under_score"), firstNames("r_"));
+        assertEquals(List.of("Hundred%"), firstNames("d%"));
+        // long enough for the index once it is ready; either path must agree
+        assertEquals(List.of("Under_score"), firstNames("der_sc"));
+    }
+
+    private List<String> firstNames(String firstName) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/members")
+                        .param("lastName", "Wildcard")
+                        .param("firstName", firstName)
+                        .with(admin()))
+                .andReturn().getResponse().getContentAsString();
+        List<String> names = new ArrayList<>();
+        for (JsonNode member : json.readTree(body).get("data").get("content")) {
+            names.add(member.get("firstName").asString());
+        }
+        return names;
+    }
+}
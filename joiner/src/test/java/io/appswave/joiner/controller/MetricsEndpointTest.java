@@ -0,0 +1,67 @@
+package io.appswave.joiner.controller;
+
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testPrometheusScrapeCoversRoutesServicesPoolAndErrors() throws Exception {
+        User admin = userRepository.findByEmail("admin@joiner.test").orElseThrow();
+        double before = notFoundErrors();
+        mockMvc.perform(get("/api/v1/members/" + UUID.randomUUID())
+                        .with(authentication(new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()))))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(before + 1, notFoundErrors());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/api/v1/members/{id}\"")))
+                .andExpect(content().string(containsString("joiner_service_seconds_bucket{class=\"io.appswave.joiner.service.MemberService\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket{")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending{")))
+                .andExpect(content().string(containsString("joiner_errors_total{key=\"member.notfound\",status=\"400\"}")));
+    }
+
+    @Test
+    void testPrometheusIsLocalOnly() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(request -> {
+                    request.setRemoteAddr("10.0.0.7");
+                    return request;
+                }))
+                .andExpect(status().is4xxClientError());
+    }
+
+    private double notFoundErrors() {
+        return meterRegistry.counter("joiner.errors", "key", "member.notfound", "status", "400").count();
+    }
+}
@@ -0,0 +1,74 @@
+package io.appswave.joiner.exception;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorBodiesTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private ErrorBodies errorBodies;
+
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setUseCodeAsDefaultMessage(true);
+        errorBodies = new ErrorBodies(messageSource, objectMapper);
+    }
+
+    @Test
+    void testEnglishAndArabicBodies() {
+        assertEquals("{\"error\":\"Member not found.\"}", text(errorBodies.get("member.notfound", Locale.ENGLISH)));
+        assertEquals("{\"error\":\"لم يتم العثور على العضو.\"}",
+                text(errorBodies.get("member.notfound", Locale.forLanguageTag("ar-JO"))));
+    }
+
+    @Test
+    void testOtherLanguagesFallBackToEnglish() {
+        assertSame(errorBodies.get("member.notfound", Locale.ENGLISH), errorBodies.get("member.notfound", Locale.FRENCH));
+        assertSame(errorBodies.get("member.notfound", Locale.ENGLISH), errorBodies.get("member.notfound", null));
+    }
+
+    @Test
+    void testStatusVariants() {
+        assertEquals(Map.of("error", "User not found.", "status", 401),
+                read(errorBodies.get("auth.user.notfound", 401, Locale.ENGLISH)));
+        assertEquals(Map.of("error", "ليس لديك صلاحية للوصول إلى هذا المورد.", "status", 403),
+                read(errorBodies.get("user.unauthorized", 403, Locale.forLanguageTag("ar"))));
+        assertEquals(Map.of("error", "Member not found.", "status", 404),
+                read(errorBodies.get("member.notfound", 404, Locale.ENGLISH)));
+    }
+
+    @Test
+    void testUnknownKeyIsSerializedAndEscaped() {
+        assertFalse(errorBodies.isKnown("Broken \"quote\""));
+        assertTrue(errorBodies.isKnown("member.notfound"));
+        assertEquals(Map.of("error", "Broken \"quote\""), read(errorBodies.get("Broken \"quote\"", Locale.ENGLISH)));
+    }
+
+    @Test
+    void testDomainExceptionsHaveNoStackTrace() {
+        DomainException ex = new MemberNotFoundException();
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("member.notfound", ex.getMessage());
+    }
+
+    private static String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private Map<?, ?> read(byte[] body) {
+        return objectMapper.readValue(body, Map.class);
+    }
+}
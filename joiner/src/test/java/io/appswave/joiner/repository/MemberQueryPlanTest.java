@@ -0,0 +1,254 @@
+package io.appswave.joiner.repository;
+
+import io.appswave.joiner.dto.request.MemberBulkRequest;
+import io.appswave.joiner.dto.request.MemberFilterRequest;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberBulkOperation;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.service.MemberExportService;
+import io.appswave.joiner.service.MemberService;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Captures the SQL Hibernate emits for the hot member queries, runs EXPLAIN on it against the
+ * Flyway-built schema, and fails when the expected index is no longer chosen, whether because
+ * a migration dropped it or because the query changed shape.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberQueryPlanTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    private static final Set<String> VIEW_COLUMNS = Set.of("id", "first_name", "last_name", "email",
+            "mobile_number", "gender", "membership_type", "persona", "version");
+
+    @TestConfiguration
+    static class CaptureStatements {
+
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer captureStatementsCustomizer() {
+            return properties -> {
+                StatementInspector delegate = (StatementInspector) properties.get(JdbcSettings.STATEMENT_INSPECTOR);
+                properties.put(JdbcSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    STATEMENTS.add(sql);
+                    return delegate != null ? delegate.inspect(sql) : sql;
+                });
+            };
+        }
+    }
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberExportService memberExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            UUID userId = UUID.randomUUID();
+            if (i % 10 == 0) {
+                users.add(new Object[]{userId, "plan" + i + "@users.test"});
+            }
+            members.add(new Object[]{
+                    UUID.randomUUID(), "First" + (i % 97), "Last" + (i % 89), "plan" + i + "@members.test",
+                    i % 2, i % 2, i % 3, i % 20 == 0, i % 10 == 0 ? userId : null
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, first_name, last_name, password, role) " +
+                "VALUES (?, ?, 'Plan', 'User', 'unused', 'USER')", users);
+        jdbcTemplate.batchUpdate("INSERT INTO members (id, first_name, last_name, email, gender, membership_type, " +
+                "persona, deleted, user_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", members);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM members WHERE email LIKE 'plan%@members.test'");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'plan%@users.test'");
+    }
+
+    @Test
+    void testFindByUserIdUsesUserIdIndex() {
+        List<String> plans = plans(() -> memberRepository.findByUserId(UUID.randomUUID()));
+
+        assertUsesIndex(plans.get(0), "UKDA61GA2JECPHDLIWVKQYT6SW2");
+    }
+
+    @Test
+    void testFindByDeletedFalseUsesDeletedIndex() {
+        List<String> plans = plans(() -> memberRepository.findByDeletedFalse(PageRequest.of(0, 10)));
+
+        assertEquals(2, plans.size(), "page query and count query");
+        plans.forEach(plan -> assertUsesIndex(plan, "IDX_MEMBERS_DELETED_ID"));
+    }
+
+    @Test
+    void testEqualityFiltersUseFilterIndex() {
+        List<String> plans = plans(() -> memberRepository.findAll(
+                MemberSpecifications.filter(null, null, null, Gender.FEMALE, MembershipType.INTERNAL, null),
+                PageRequest.of(0, 10)));
+
+        plans.forEach(plan -> assertUsesIndex(plan, "IDX_MEMBERS_DELETED_FILTERS"));
+    }
+
+    @Test
+    void testBulkByFilterUsesFilterIndex() {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setGender("FEMALE");
+        filter.setMembershipType("EXTERNAL");
+
+        for (MemberBulkOperation operation : MemberBulkOperation.values()) {
+            MemberBulkRequest request = new MemberBulkRequest();
+            request.setOperation(operation);
+            request.setFilter(filter);
+            request.setMembershipType(MembershipType.INTERNAL);
+
+            List<String> plans = plans(() -> transactionTemplate.executeWithoutResult(status -> {
+                assertTrue(memberService.bulk(request).getAffected() > 0, operation.name());
+                status.setRollbackOnly();
+            }));
+
+            assertTrue(plans.stream().anyMatch(plan -> !plan.startsWith("SELECT")), operation + " statement captured");
+            plans.forEach(plan -> assertUsesIndex(plan, "IDX_MEMBERS_DELETED_FILTERS"));
+        }
+    }
+
+    @Test
+    void testFullEmailFilterUsesEmailIndex() {
+        List<String> plans = plans(() -> memberRepository.findAll(
+                MemberSpecifications.filter(null, null, "plan5@members.test", null, null, null),
+                PageRequest.of(0, 10)));
+
+        assertUsesIndex(plans.get(0), "UK_MEMBERS_EMAIL");
+    }
+
+    @Test
+    void testExportQueryIsBuiltFromTheFilter() {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setGender("FEMALE");
+        filter.setMembershipType("INTERNAL");
+
+        assertSelects(() -> memberExportService.export(filter, MemberFileFormat.NDJSON, OutputStream.nullOutputStream()));
+        assertTrue(STATEMENTS.stream().noneMatch(sql -> sql.toLowerCase().contains(" is null")), STATEMENTS.toString());
+        plans(() -> memberExportService.export(filter, MemberFileFormat.CSV, OutputStream.nullOutputStream()))
+                .forEach(plan -> assertUsesIndex(plan, "IDX_MEMBERS_DELETED_FILTERS"));
+    }
+
+    @Test
+    void testFullEmailFilterIgnoresCase() {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setEmail("Plan6@Members.TEST");
+
+        assertEquals(List.of("plan6@members.test"), memberService.filterMembers(0, 10, filter)
+                .map(member -> member.getEmail()).getContent());
+    }
+
+    @Test
+    void testListReadsSelectOnlyViewColumns() {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setGender("FEMALE");
+
+        assertSelects(() -> memberService.filterMembers(0, 10, filter));
+        assertSelects(() -> memberService.sliceMembers(0, 10, filter, false));
+        assertSelects(() -> memberService.scrollMembers(filter, null, 10, "email"));
+        assertSelects(() -> memberRepository.findViews(
+                Specification.where(MemberSpecifications.notDeleted().and(MemberSpecifications.idIn(Set.of(UUID.randomUUID())))),
+                PageRequest.of(0, 10)));
+    }
+
+    /**
+     * Every member statement {@code queries} runs selects exactly the {@link MemberView} columns,
+     * so no {@code Member} entity (and its {@code user} association) is materialized.
+     */
+    private static void assertSelects(Runnable queries) {
+        STATEMENTS.clear();
+        queries.run();
+        List<String> selects = STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.contains(" from members ") && !sql.startsWith("select count("))
+                .toList();
+        assertFalse(selects.isEmpty(), "no SQL captured");
+        for (String sql : selects) {
+            Set<String> columns = Arrays.stream(sql.substring("select ".length(), sql.indexOf(" from members ")).split(","))
+                    .map(column -> column.substring(column.indexOf('.') + 1).trim())
+                    .collect(Collectors.toSet());
+            assertEquals(VIEW_COLUMNS, columns, sql);
+        }
+    }
+
+    private List<String> plans(Runnable queries) {
+        STATEMENTS.clear();
+        queries.run();
+        // only statements against members; eager association loads are not what is under test
+        List<String> captured = STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains(" from members ") || sql.toLowerCase().startsWith("update members "))
+                .toList();
+        assertFalse(captured.isEmpty(), "no SQL captured");
+        return captured.stream().map(this::explain).toList();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setNull(i, parameters.getParameterType(i));
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertTrue(plan.toUpperCase().contains("/* PUBLIC." + index), "expected " + index + " in plan:\n" + plan);
+    }
+}
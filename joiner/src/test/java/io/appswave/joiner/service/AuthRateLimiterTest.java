@@ -0,0 +1,119 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.exception.AuthThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testEmailBucketAllowsBurstThenRefills() {
+        AuthRateLimiter limiter = limiter(100, 3);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("10.0.0.9", "User@Example.com");
+        }
+        AuthThrottledException ex = assertThrows(AuthThrottledException.class,
+                () -> limiter.acquire("10.0.0.9", "user@example.com "));
+        assertEquals(10, ex.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("joiner.auth.throttled").tag("scope", "email").counter().count());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        limiter.acquire("10.0.0.9", "user@example.com");
+        assertThrows(AuthThrottledException.class, () -> limiter.acquire("10.0.0.9", "user@example.com"));
+    }
+
+    @Test
+    void testThrottledEmailStaysOpenFromOtherAddresses() {
+        AuthRateLimiter limiter = limiter(100, 2);
+
+        limiter.acquire("10.0.0.66", "victim@example.com");
+        limiter.acquire("10.0.0.66", "victim@example.com");
+        assertThrows(AuthThrottledException.class, () -> limiter.acquire("10.0.0.66", "victim@example.com"));
+
+        limiter.acquire("10.0.0.1", "victim@example.com");
+    }
+
+    @Test
+    void testChurningKeysFromOneAddressIsCappedByIpBucket() {
+        AuthRateLimiter limiter = new AuthRateLimiter(meterRegistry, true, 5, Duration.ofSeconds(1),
+                1, Duration.ofSeconds(10), 1000, now::get);
+
+        limiter.acquire("10.0.0.66", "victim@example.com");
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire("10.0.0.66", "churn" + i + "@example.com");
+        }
+
+        assertThrows(AuthThrottledException.class, () -> limiter.acquire("10.0.0.66", "churn9@example.com"));
+        assertEquals(1, meterRegistry.get("joiner.auth.throttled").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    void testIpBucketCoversEveryEmail() {
+        AuthRateLimiter limiter = limiter(2, 100);
+
+        limiter.acquire("10.0.0.1", "a@example.com");
+        limiter.acquire("10.0.0.1", "b@example.com");
+
+        assertThrows(AuthThrottledException.class, () -> limiter.acquire("10.0.0.1", "c@example.com"));
+        assertEquals(1, meterRegistry.get("joiner.auth.throttled").tag("scope", "ip").counter().count());
+        limiter.acquire("10.0.0.2", "c@example.com");
+    }
+
+    @Test
+    void testDisabledLimiterAdmitsEverything() {
+        AuthRateLimiter limiter = new AuthRateLimiter(meterRegistry, false, 1, Duration.ofSeconds(1),
+                1, Duration.ofSeconds(1), 10, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("10.0.0.1", "a@example.com");
+        }
+    }
+
+    @Test
+    void testConcurrentCallersNeverExceedTheBurst() throws Exception {
+        AuthRateLimiter limiter = limiter(1000, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        try {
+                            limiter.acquire("10.0.0.1", "hot@example.com");
+                            admitted.incrementAndGet();
+                        } catch (AuthThrottledException ignored) {
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(50, admitted.get());
+    }
+
+    private AuthRateLimiter limiter(int ipBurst, int emailBurst) {
+        return new AuthRateLimiter(meterRegistry, true, ipBurst, Duration.ofSeconds(1),
+                emailBurst, Duration.ofSeconds(10), 1000, now::get);
+    }
+}
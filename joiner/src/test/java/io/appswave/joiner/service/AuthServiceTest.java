@@ -5,6 +5,7 @@ import io.appswave.joiner.dto.request.SignupRequest;
 import io.appswave.joiner.dto.response.LoginResponse;
 import io.appswave.joiner.dto.response.RegisterResponse;
 import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.AuthMode;
 import io.appswave.joiner.enums.UserRole;
 import io.appswave.joiner.exception.EmailAlreadyExistsException;
 import io.appswave.joiner.exception.UserNotFoundException;
@@ -20,9 +21,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Optional;
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +45,12 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenService tokenService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -102,7 +111,6 @@ class AuthServiceTest {
         Authentication authentication = mock(Authentication.class);
         when(authentication.getPrincipal()).thenReturn(testUser);
 
-        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
         when(httpRequest.getSession(true)).thenReturn(session);
@@ -116,7 +124,29 @@ class AuthServiceTest {
         assertEquals("john@example.com", response.getEmail());
         assertEquals("USER", response.getRole());
         assertTrue(response.isAuthenticated());
-        verify(userRepository, times(1)).findByEmail(loginRequest.getEmail());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void testLoginInTokenModeIssuesTokenWithoutSession() {
+        ReflectionTestUtils.setField(authService, "authMode", AuthMode.TOKEN);
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("john@example.com");
+        loginRequest.setPassword("password123");
+
+        HttpServletRequest httpRequest = mock(HttpServletRequest.class);
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(testUser);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authentication);
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        when(tokenService.issue(testUser)).thenReturn(new TokenService.IssuedToken("signed", expiresAt));
+
+        LoginResponse response = authService.login(loginRequest, httpRequest);
+
+        assertEquals("signed", response.getToken());
+        assertEquals(expiresAt, response.getTokenExpiresAt());
+        verify(httpRequest, never()).getSession(anyBoolean());
     }
 
     @Test
@@ -127,7 +157,8 @@ class AuthServiceTest {
 
         HttpServletRequest httpRequest = mock(HttpServletRequest.class);
 
-        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.empty());
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new UsernameNotFoundException("User not found"));
 
         assertThrows(UserNotFoundException.class, () -> {
             authService.login(loginRequest, httpRequest);
@@ -141,6 +172,12 @@ class AuthServiceTest {
         verify(session, times(1)).invalidate();
     }
 
+    @Test
+    void testLogoutRevokesBearerToken() {
+        authService.logout(null, "signed");
+        verify(tokenService).revoke("signed");
+    }
+
     @Test
     void testLogoutWithNullSession() {
         assertDoesNotThrow(() -> {
@@ -0,0 +1,104 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.UserRole;
+import io.appswave.joiner.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+    private CustomUserDetailsService userDetailsService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        userDetailsService = new CustomUserDetailsService(userRepository, principalCache);
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setEmail("john@example.com");
+        testUser.setUserRole(UserRole.USER);
+    }
+
+    @Test
+    void testRepeatedLoadsHitCache() {
+        when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+
+        User first = (User) userDetailsService.loadUserByUsername("john@example.com");
+        User second = (User) userDetailsService.loadUserByUsername("john@example.com");
+        assertEquals(testUser.getId(), second.getId());
+        assertEquals(UserRole.USER, second.getUserRole());
+        assertNotSame(first, second);
+
+        verify(userRepository, times(1)).findByEmail("john@example.com");
+        assertEquals(1, principalCache.stats().hitCount());
+        assertEquals(1, principalCache.stats().missCount());
+    }
+
+    @Test
+    void testEvictForcesReload() {
+        when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+
+        userDetailsService.loadUserByUsername("john@example.com");
+        principalCache.evict("john@example.com");
+        userDetailsService.loadUserByUsername("john@example.com");
+
+        verify(userRepository, times(2)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void testCachedPrincipalIsASnapshot() {
+        when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+
+        User loaded = (User) userDetailsService.loadUserByUsername("john@example.com");
+        loaded.setUserRole(UserRole.ADMIN);
+        testUser.setUserRole(UserRole.ADMIN);
+
+        User reloaded = (User) userDetailsService.loadUserByUsername("john@example.com");
+        assertNotSame(testUser, reloaded);
+        assertEquals(UserRole.USER, reloaded.getUserRole());
+    }
+
+    @Test
+    void testUserWriteEvictsPrincipal() {
+        when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+        userDetailsService.loadUserByUsername("john@example.com");
+
+        testUser.setUserRole(UserRole.ADMIN);
+        new PrincipalEvictionListener(principalCache).evict(testUser);
+
+        assertEquals(UserRole.ADMIN, ((User) userDetailsService.loadUserByUsername("john@example.com")).getUserRole());
+        verify(userRepository, times(2)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void testUnknownUserIsNotCached() {
+        when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("ghost@example.com"));
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("ghost@example.com"));
+
+        verify(userRepository, times(2)).findByEmail("ghost@example.com");
+    }
+}
@@ -0,0 +1,78 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.dto.request.MemberFilterRequest;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.repository.MemberView;
+import io.appswave.joiner.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberExportServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberExportService exportService;
+    private MemberView member;
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new MemberExportService(memberRepository, new JsonMapper());
+
+        member = mock(MemberView.class);
+        when(member.getId()).thenReturn(id);
+        when(member.getFirstName()).thenReturn("Jane");
+        when(member.getLastName()).thenReturn("Doe, \"JD\"");
+        when(member.getEmail()).thenReturn("jane@example.com");
+        when(member.getGender()).thenReturn(Gender.FEMALE);
+        when(member.getMembershipType()).thenReturn(MembershipType.INTERNAL);
+        when(member.getPersona()).thenReturn(PersonaType.INDIVIDUAL);
+    }
+
+    @Test
+    void testCsvExportQuotesValues() {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setGender("female");
+        when(memberRepository.streamViews(any())).thenReturn(Stream.of(member));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(filter, MemberFileFormat.CSV, out);
+
+        assertEquals(1, rows);
+        assertEquals(
+                "id,firstName,lastName,email,mobileNumber,gender,membershipType,persona\n"
+                        + id + ",Jane,\"Doe, \"\"JD\"\"\",jane@example.com,,FEMALE,INTERNAL,INDIVIDUAL\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testNdjsonExportWritesOneObjectPerLine() {
+        when(memberRepository.streamViews(any())).thenReturn(Stream.of(member, member));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(new MemberFilterRequest(), MemberFileFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"email\":\"jane@example.com\""));
+        assertTrue(lines[0].contains("\"gender\":\"FEMALE\""));
+    }
+}
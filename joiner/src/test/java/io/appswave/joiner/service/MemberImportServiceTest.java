@@ -0,0 +1,155 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.dto.response.MemberImportError;
+import io.appswave.joiner.dto.response.MemberImportResponse;
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.enums.MembershipType;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.MessageSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class MemberImportServiceTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MemberSearchIndex searchIndex;
+
+    @Autowired
+    private MemberCountCache countCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member();
+        member.setFirstName("Taken");
+        member.setLastName("Member");
+        member.setEmail("taken@import.test");
+        member.setGender(Gender.MALE);
+        member.setMembershipType(MembershipType.EXTERNAL);
+        member.setPersona(PersonaType.INDIVIDUAL);
+        memberRepository.save(member);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM members WHERE email LIKE ?", "%@import.test");
+    }
+
+    @Test
+    void testBatchesSkipInvalidAndDuplicateRows() {
+        List<MemberImportResponse> progress = new ArrayList<>();
+
+        MemberImportResponse result = service(memberRepository, 3).importMembers(ndjson(
+                row("first", "first@import.test"),
+                row("again", "FIRST@import.test"),
+                row("taken", "Taken@import.test"),
+                row("", "blank@import.test"),
+                row("second", "second@import.test")
+        ), MemberFileFormat.NDJSON, Locale.ENGLISH, progress::add);
+
+        assertEquals(2, progress.size());
+        assertEquals(3, progress.get(0).getProcessed());
+        assertEquals(1, progress.get(0).getImported());
+        assertEquals(List.of(2L, 3L), lines(progress.get(0)));
+        assertEquals(List.of(message("member.email.exists"), message("member.email.exists")),
+                progress.get(0).getErrors().stream().map(MemberImportError::getError).toList());
+        assertEquals(5, progress.get(1).getProcessed());
+        assertEquals(List.of(4L), lines(progress.get(1)));
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(3, count());
+    }
+
+    @Test
+    void testFallbackReportsEachRowsOwnConstraint() {
+        MemberRepository staleCheck = mock(MemberRepository.class);
+        when(staleCheck.findExistingEmails(anyCollection())).thenReturn(List.of());
+        List<MemberImportResponse> progress = new ArrayList<>();
+
+        MemberImportResponse result = service(staleCheck, 10).importMembers(ndjson(
+                row("fresh", "fresh@import.test"),
+                row("taken", "taken@import.test"),
+                row("x".repeat(300), "long@import.test")
+        ), MemberFileFormat.NDJSON, Locale.ENGLISH, progress::add);
+
+        List<MemberImportError> errors = progress.get(0).getErrors();
+        assertEquals(List.of(2L, 3L), lines(progress.get(0)));
+        assertEquals(message("member.email.exists"), errors.get(0).getError());
+        assertEquals(message("member.import.rejected"), errors.get(1).getError());
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, count());
+    }
+
+    private MemberImportService service(MemberRepository repository, int batchSize) {
+        return new MemberImportService(repository, entityManager, transactionManager, validator,
+                messageSource, objectMapper, searchIndex, countCache, batchSize);
+    }
+
+    private static String row(String firstName, String email) {
+        return """
+                {"firstName":"%s","lastName":"Import","email":"%s","gender":"FEMALE","membershipType":"INTERNAL","persona":"INDIVIDUAL"}"""
+                .formatted(firstName, email);
+    }
+
+    private static ByteArrayInputStream ndjson(String... rows) {
+        return new ByteArrayInputStream(String.join("\n", rows).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> lines(MemberImportResponse response) {
+        return response.getErrors().stream().map(MemberImportError::getLine).toList();
+    }
+
+    private String message(String key) {
+        return messageSource.getMessage(key, null, Locale.ENGLISH);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members WHERE email LIKE ?", Integer.class, "%@import.test");
+    }
+}
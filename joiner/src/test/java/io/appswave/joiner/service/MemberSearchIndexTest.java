@@ -0,0 +1,158 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.entity.Member;
+import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberSearchView;
+import io.appswave.joiner.service.MemberSearchIndex.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSearchIndexTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberSearchIndex index;
+
+    private final UUID johnId = UUID.randomUUID();
+    private final UUID janeId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberSearchIndex(memberRepository, transactionManager);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxCandidates", 100);
+
+        when(memberRepository.streamSearchViews()).thenReturn(Stream.of(
+                view(johnId, "John", "Doe", "john.doe@example.com"),
+                view(janeId, "Jane", "Doerty", "jane@sample.org")
+        ));
+        index.build();
+    }
+
+    @Test
+    void testSearchMatchesSubstringIgnoringCase() {
+        assertEquals(Set.of(johnId, janeId), index.search(Field.LAST_NAME, "DOE"));
+        assertEquals(Set.of(janeId), index.search(Field.LAST_NAME, "oert"));
+        assertEquals(Set.of(johnId), index.search(Field.EMAIL, "example"));
+        assertTrue(index.search(Field.FIRST_NAME, "xyz").isEmpty());
+    }
+
+    @Test
+    void testSearchAnyUnionsFields() {
+        assertEquals(Set.of(janeId), index.searchAny("jan", Field.FIRST_NAME, Field.EMAIL));
+        assertEquals(Set.of(johnId, janeId), index.searchAny("doe", Field.FIRST_NAME, Field.LAST_NAME));
+    }
+
+    @Test
+    void testShortTermsFallBack() {
+        assertNull(index.search(Field.FIRST_NAME, "jo"));
+    }
+
+    @Test
+    void testPutReplacesPreviousValues() {
+        Member member = new Member();
+        member.setId(johnId);
+        member.setFirstName("Jonathan");
+        member.setLastName("Smith");
+        member.setEmail("jsmith@example.com");
+
+        index.put(member);
+
+        assertEquals(Set.of(janeId), index.search(Field.LAST_NAME, "doe"));
+        assertEquals(Set.of(johnId), index.search(Field.FIRST_NAME, "athan"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testRemoveAndSoftDeletedMembersDropOut() {
+        index.remove(janeId);
+        assertEquals(Set.of(johnId), index.search(Field.LAST_NAME, "doe"));
+
+        Member member = new Member();
+        member.setId(johnId);
+        member.setDeleted(true);
+        index.put(member);
+
+        assertTrue(index.search(Field.LAST_NAME, "doe").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testMemberRemovedWhileBuildingIsNotIndexed() {
+        MemberSearchIndex rebuilt = new MemberSearchIndex(memberRepository, transactionManager);
+        ReflectionTestUtils.setField(rebuilt, "enabled", true);
+        ReflectionTestUtils.setField(rebuilt, "maxCandidates", 100);
+        MemberSearchView jane = view(janeId, "Jane", "Doerty", "jane@sample.org");
+        when(memberRepository.streamSearchViews()).thenReturn(Stream.of(
+                view(johnId, "John", "Doe", "john.doe@example.com"),
+                jane
+        ).peek(row -> {
+            if (row == jane) {
+                rebuilt.remove(janeId);
+            }
+        }));
+
+        rebuilt.build();
+
+        assertEquals(Set.of(johnId), rebuilt.search(Field.LAST_NAME, "doe"));
+    }
+
+    @Test
+    void testBackgroundBuildLeavesSearchOnLikeUntilDone() throws Exception {
+        MemberSearchIndex background = new MemberSearchIndex(memberRepository, transactionManager);
+        ReflectionTestUtils.setField(background, "enabled", true);
+        ReflectionTestUtils.setField(background, "maxCandidates", 100);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberRepository.streamSearchViews()).thenReturn(Stream.of(
+                view(johnId, "John", "Doe", "john.doe@example.com")
+        ).peek(row -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        background.buildInBackground();
+        assertNull(background.search(Field.LAST_NAME, "doe"));
+
+        release.countDown();
+        for (int i = 0; i < 200 && background.search(Field.LAST_NAME, "doe") == null; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Set.of(johnId), background.search(Field.LAST_NAME, "doe"));
+    }
+
+    @Test
+    void testTooManyCandidatesFallsBack() {
+        ReflectionTestUtils.setField(index, "maxCandidates", 1);
+        assertNull(index.search(Field.LAST_NAME, "doe"));
+    }
+
+    static MemberSearchView view(UUID id, String firstName, String lastName, String email) {
+        return new MemberSearchView() {
+            @Override public UUID getId() { return id; }
+            @Override public String getFirstName() { return firstName; }
+            @Override public String getLastName() { return lastName; }
+            @Override public String getEmail() { return email; }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.UserRole;
+import io.appswave.joiner.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSecurityServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberSecurityService memberSecurityService;
+
+    private User currentUser;
+
+    @BeforeEach
+    void setUp() {
+        currentUser = new User();
+        currentUser.setId(UUID.randomUUID());
+        currentUser.setUserRole(UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(currentUser, null, currentUser.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testOwnerCheckUsesExistenceQuery() {
+        UUID memberId = UUID.randomUUID();
+        when(memberRepository.existsByIdAndUserId(memberId, currentUser.getId())).thenReturn(true);
+
+        assertTrue(memberSecurityService.isOwnerOrAdmin(memberId));
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    void testAdminSkipsLookup() {
+        currentUser.setUserRole(UserRole.ADMIN);
+
+        assertTrue(memberSecurityService.isOwnerOrAdmin(UUID.randomUUID()));
+        verifyNoInteractions(memberRepository);
+    }
+}
@@ -1,32 +1,62 @@
 package io.appswave.joiner.service;
 
+import io.appswave.joiner.dto.request.MemberBulkRequest;
+import io.appswave.joiner.dto.request.MemberFilterRequest;
 import io.appswave.joiner.dto.request.MemberUpdateRequest;
+import io.appswave.joiner.dto.response.BulkOperationResponse;
+import io.appswave.joiner.dto.response.CursorPageResponse;
 import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.dto.response.SliceResponse;
 import io.appswave.joiner.entity.Member;
 import io.appswave.joiner.entity.User;
 import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberBulkOperation;
 import io.appswave.joiner.enums.MembershipType;
 import io.appswave.joiner.enums.PersonaType;
 import io.appswave.joiner.enums.UserRole;
+import io.appswave.joiner.exception.MemberVersionMismatchException;
 import io.appswave.joiner.repository.MemberRepository;
+import io.appswave.joiner.repository.MemberView;
 import io.appswave.joiner.repository.UserRepository;
+import io.appswave.joiner.util.CursorCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +69,15 @@ class MemberServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MemberSearchIndex searchIndex;
+
+    @Mock
+    private MemberCountCache countCache;
+
+    @Spy
+    private MemberCache memberCache = new MemberCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
     @InjectMocks
     private MemberService memberService;
 
@@ -87,6 +126,49 @@ class MemberServiceTest {
         verify(memberRepository, times(1)).findByUserId(testUser.getId());
     }
 
+    @Test
+    void testGetMyProfileIsCachedUntilUpdate() {
+        when(memberRepository.findByUserId(testUser.getId())).thenReturn(Optional.of(testMember));
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        memberService.getMyProfile();
+        memberService.getMyProfile();
+        verify(memberRepository, times(1)).findByUserId(testUser.getId());
+
+        MemberUpdateRequest request = new MemberUpdateRequest();
+        request.setFirstName("Johnny");
+        memberService.update(testMember.getId(), request, null);
+
+        assertEquals("Johnny", memberService.getMyProfile().getFirstName());
+        verify(memberRepository, times(2)).findByUserId(testUser.getId());
+    }
+
+    @Test
+    void testUpdateWithStaleVersionFails() {
+        testMember.setVersion(2);
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+
+        assertThrows(MemberVersionMismatchException.class,
+                () -> memberService.update(testMember.getId(), new MemberUpdateRequest(), Set.of(1L)));
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
+    @Test
+    void testGetMemberByIdIsCachedUntilSoftDelete() {
+        testUser.setUserRole(UserRole.ADMIN);
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+
+        memberService.get(testMember.getId());
+        memberService.get(testMember.getId());
+        verify(memberRepository, times(1)).findById(testMember.getId());
+
+        memberService.softDelete(testMember.getId());
+        memberService.get(testMember.getId());
+        verify(memberRepository, times(3)).findById(testMember.getId());
+        assertEquals(1, memberCache.stats().hitCount());
+    }
+
     @Test
     void testGetMyProfileNotFound() {
         when(memberRepository.findByUserId(testUser.getId())).thenReturn(Optional.empty());
@@ -107,6 +189,36 @@ class MemberServiceTest {
         verify(memberRepository, times(1)).save(any(Member.class));
     }
 
+    @Test
+    void testRolledBackCreateLeavesIndexAndCountsUntouched() {
+        when(memberRepository.findByUserId(testUser.getId())).thenReturn(Optional.empty());
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            memberService.create(new io.appswave.joiner.dto.request.MemberRequest());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(searchIndex, never()).put(any());
+        verify(countCache, never()).invalidateAll();
+    }
+
+    @Test
+    void testCreateMemberStoresEmailInLowerCase() {
+        when(memberRepository.findByUserId(testUser.getId())).thenReturn(Optional.empty());
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        io.appswave.joiner.dto.request.MemberRequest request = new io.appswave.joiner.dto.request.MemberRequest();
+        request.setEmail(" John.Doe@Example.COM");
+        request.setGender(Gender.MALE);
+        request.setMembershipType(MembershipType.INTERNAL);
+        request.setPersona(PersonaType.INDIVIDUAL);
+
+        assertEquals("john.doe@example.com", memberService.create(request).getEmail());
+    }
+
     @Test
     void testCreateMemberUserAlreadyHasProfile() {
         when(memberRepository.findByUserId(testUser.getId())).thenReturn(Optional.of(testMember));
@@ -158,6 +270,51 @@ class MemberServiceTest {
         verify(memberRepository, times(1)).delete(testMember);
     }
 
+    @Test
+    void testDeleteLoadsMemberOnce() {
+        testUser.setUserRole(UserRole.ADMIN);
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+
+        memberService.delete(testMember.getId(), false);
+
+        assertTrue(testMember.isDeleted());
+        verify(memberRepository, times(1)).findById(testMember.getId());
+        verify(searchIndex).remove(testMember.getId());
+    }
+
+    @Test
+    void testDeleteUpdatesIndexOnlyAfterCommit() {
+        testUser.setUserRole(UserRole.ADMIN);
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            memberService.delete(testMember.getId(), true);
+            verify(searchIndex, never()).remove(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(searchIndex).remove(testMember.getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRolledBackDeleteLeavesIndexUntouched() {
+        testUser.setUserRole(UserRole.ADMIN);
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            memberService.delete(testMember.getId(), false);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(searchIndex, never()).remove(any());
+    }
+
     @Test
     void testUpdateMemberAsOwner() {
         when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
@@ -166,7 +323,7 @@ class MemberServiceTest {
         MemberUpdateRequest updateRequest = new MemberUpdateRequest();
         updateRequest.setFirstName("John Updated");
 
-        MemberResponse response = memberService.update(testMember.getId(), updateRequest);
+        MemberResponse response = memberService.update(testMember.getId(), updateRequest, null);
 
         assertNotNull(response);
         verify(memberRepository, times(1)).save(any(Member.class));
@@ -184,7 +341,155 @@ class MemberServiceTest {
         updateRequest.setFirstName("John Updated");
 
         assertThrows(Exception.class, () -> {
-            memberService.update(testMember.getId(), updateRequest);
+            memberService.update(testMember.getId(), updateRequest, null);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testScrollMembersReturnsContinuationCursor() {
+        Member next = new Member();
+        next.setId(UUID.randomUUID());
+        next.setFirstName("Jane");
+        next.setLastName("Doe");
+        next.setEmail("jane@example.com");
+        next.setGender(Gender.FEMALE);
+        next.setMembershipType(MembershipType.INTERNAL);
+        next.setPersona(PersonaType.INDIVIDUAL);
+
+        Window<MemberView> window = Window.from(
+                List.of(view(testMember), view(next)),
+                i -> ScrollPosition.forward(Map.of("id", i == 0 ? testMember.getId() : next.getId())),
+                true
+        );
+        when(memberRepository.scrollViews(any(Specification.class), any(), anyInt(), any())).thenReturn(window);
+
+        CursorPageResponse<MemberResponse> response =
+                memberService.scrollMembers(new MemberFilterRequest(), null, 2, "id");
+
+        assertEquals(2, response.getContent().size());
+        assertTrue(response.isHasNext());
+        assertNotNull(response.getNextCursor());
+        assertEquals(next.getId(), CursorCodec.decode(response.getNextCursor()).getKeys().get("id"));
+    }
+
+    @Test
+    void testScrollMembersRejectsTamperedCursor() {
+        assertThrows(RuntimeException.class, () ->
+                memberService.scrollMembers(new MemberFilterRequest(), "not-a-cursor", 10, "id"));
+        verify(memberRepository, never()).scrollViews(any(Specification.class), any(), anyInt(), any());
+    }
+
+    @Test
+    void testSliceMembersSkipsCountUnlessRequested() {
+        Slice<MemberView> slice = new SliceImpl<>(List.of(view(testMember)), PageRequest.of(0, 1), true);
+        when(memberRepository.sliceViews(any(Specification.class), any())).thenReturn(slice);
+
+        SliceResponse<MemberResponse> response = memberService.sliceMembers(0, 1, new MemberFilterRequest(), false);
+
+        assertTrue(response.isHasNext());
+        assertNull(response.getTotalElements());
+        verify(countCache, never()).get(any(), any());
+        verify(memberRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void testSliceMembersServesTotalFromCountCache() {
+        Slice<MemberView> slice = new SliceImpl<>(List.of(view(testMember)), PageRequest.of(0, 1), false);
+        when(memberRepository.sliceViews(any(Specification.class), any())).thenReturn(slice);
+        when(countCache.get(any(), any())).thenReturn(42L);
+
+        SliceResponse<MemberResponse> response = memberService.sliceMembers(0, 1, new MemberFilterRequest(), true);
+
+        assertEquals(42L, response.getTotalElements());
+        verify(memberRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void testWritesInvalidateCountCache() {
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+
+        memberService.softDelete(testMember.getId());
+
+        verify(countCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void testBulkSoftDeleteByIdsRunsChunkedUpdates() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        when(memberRepository.softDeleteByIds(anyCollection())).thenReturn(1000, 500);
+
+        MemberBulkRequest request = new MemberBulkRequest();
+        request.setOperation(MemberBulkOperation.SOFT_DELETE);
+        request.setIds(ids);
+
+        BulkOperationResponse response = memberService.bulk(request);
+
+        assertEquals(1500, response.getAffected());
+        verify(memberRepository, times(2)).softDeleteByIds(anyCollection());
+        verify(memberRepository, never()).findById(any());
+        verify(searchIndex).remove(ids.get(1499));
+        verify(countCache).invalidateAll();
+    }
+
+    @Test
+    void testBulkSoftDeleteByFilterRemovesMatchesFromIndexBeforeItIsReady() {
+        UUID matched = UUID.randomUUID();
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setPersona("business");
+        when(searchIndex.isEnabled()).thenReturn(true);
+        when(memberRepository.findIds(any(Specification.class))).thenReturn(List.of(matched));
+        when(memberRepository.update(any(UpdateSpecification.class))).thenReturn(1L);
+
+        MemberBulkRequest request = new MemberBulkRequest();
+        request.setOperation(MemberBulkOperation.SOFT_DELETE);
+        request.setFilter(filter);
+
+        assertEquals(1, memberService.bulk(request).getAffected());
+        verify(searchIndex).remove(matched);
+    }
+
+    @Test
+    void testBulkMembershipUpdateByFilter() {
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setPersona("business");
+        when(memberRepository.update(any(UpdateSpecification.class))).thenReturn(42L);
+
+        MemberBulkRequest request = new MemberBulkRequest();
+        request.setOperation(MemberBulkOperation.UPDATE_MEMBERSHIP_TYPE);
+        request.setFilter(filter);
+        request.setMembershipType(MembershipType.EXTERNAL);
+
+        assertEquals(42, memberService.bulk(request).getAffected());
+        verify(searchIndex, never()).remove(any());
+    }
+
+    @Test
+    void testFilterMembersWithFullEmailSkipsSubstringSearch() {
+        when(memberRepository.findViews(any(Specification.class), any()))
+                .thenReturn(new PageImpl<>(List.of(view(testMember))));
+        MemberFilterRequest filter = new MemberFilterRequest();
+        filter.setEmail("john@example.com");
+        filter.setGender("male");
+
+        assertEquals(1, memberService.filterMembers(0, 10, filter).getTotalElements());
+        verify(searchIndex, never()).search(any(), any());
+    }
+
+    @Test
+    void testBulkWithoutTargetIsRejected() {
+        MemberBulkRequest request = new MemberBulkRequest();
+        request.setOperation(MemberBulkOperation.HARD_DELETE);
+        request.setFilter(new MemberFilterRequest());
+
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> memberService.bulk(request));
+        assertEquals("member.bulk.target.required", ex.getMessage());
+        verify(memberRepository, never()).delete(any(DeleteSpecification.class));
+    }
+
+    private static MemberView view(Member member) {
+        return new SpelAwareProxyProjectionFactory().createProjection(MemberView.class, member);
+    }
+}
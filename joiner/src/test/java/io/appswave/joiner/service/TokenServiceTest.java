@@ -0,0 +1,159 @@
+package io.appswave.joiner.service;
+
+import io.appswave.joiner.entity.User;
+import io.appswave.joiner.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "test-secret-of-at-least-thirty-two-bytes";
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+    private TokenService tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService(SECRET, Duration.ofMinutes(30), 100, Clock.fixed(now, ZoneOffset.UTC));
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("john|doe@example.com");
+        user.setUserRole(UserRole.ADMIN);
+    }
+
+    @Test
+    void testIssuedTokenVerifiesToClaims() {
+        TokenService.IssuedToken token = tokenService.issue(user);
+
+        Optional<User> principal = tokenService.verify(token.value());
+
+        assertTrue(principal.isPresent());
+        assertEquals(user.getId(), principal.get().getId());
+        assertEquals("john|doe@example.com", principal.get().getEmail());
+        assertEquals(UserRole.ADMIN, principal.get().getUserRole());
+        assertEquals(now.plus(Duration.ofMinutes(30)), token.expiresAt());
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        String token = tokenService.issue(user).value();
+        String tampered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+
+        assertTrue(tokenService.verify(tampered).isEmpty());
+        assertTrue(tokenService.verify("garbage").isEmpty());
+        assertTrue(tokenService.verify("a.b.c").isEmpty());
+    }
+
+    @Test
+    void testTokenFromOtherKeyIsRejected() {
+        TokenService other = new TokenService("another-secret-of-at-least-32-bytes", Duration.ofMinutes(30), 100, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertTrue(tokenService.verify(other.issue(user).value()).isEmpty());
+    }
+
+    @Test
+    void testShortSecretFailsStartup() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> new TokenService("short", Duration.ofMinutes(30), 100, Clock.fixed(now, ZoneOffset.UTC)));
+        assertTrue(ex.getMessage().contains("joiner.auth.token.secret"));
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        String token = tokenService.issue(user).value();
+        TokenService later = new TokenService(SECRET, Duration.ofMinutes(30), 100,
+                Clock.fixed(now.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+        assertTrue(later.verify(token).isEmpty());
+    }
+
+    @Test
+    void testRevokedTokenIsRejected() {
+        String token = tokenService.issue(user).value();
+
+        tokenService.revoke(token);
+
+        assertTrue(tokenService.verify(token).isEmpty());
+    }
+
+    @Test
+    void testFullRevocationListFallsBackToRevokingTheUsersOlderTokens() {
+        MutableClock clock = new MutableClock(now);
+        TokenService small = new TokenService(SECRET, Duration.ofMinutes(30), 1, clock);
+        String first = small.issue(user).value();
+        small.revoke(first);
+
+        User other = new User();
+        other.setId(UUID.randomUUID());
+        other.setEmail("jane@example.com");
+        other.setUserRole(UserRole.USER);
+        String otherToken = small.issue(other).value();
+        String second = small.issue(user).value();
+        assertDoesNotThrow(() -> small.revoke(second));
+
+        assertTrue(small.verify(first).isEmpty());
+        assertTrue(small.verify(second).isEmpty());
+        assertTrue(small.verify(otherToken).isPresent());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(small.verify(small.issue(user).value()).isPresent());
+    }
+
+    @Test
+    void testRevokedEntryIsDroppedOnlyOnceTokenExpires() {
+        MutableClock clock = new MutableClock(now);
+        TokenService service = new TokenService(SECRET, Duration.ofMinutes(30), 1, clock);
+        String first = service.issue(user).value();
+        service.revoke(first);
+
+        clock.advance(Duration.ofMinutes(29));
+        assertTrue(service.verify(first).isEmpty());
+
+        clock.advance(Duration.ofMinutes(2));
+        String second = service.issue(user).value();
+        service.revoke(second);
+        assertTrue(service.verify(second).isEmpty());
+        // the id list had room again, so the user's other tokens were not swept up by the fallback
+        assertTrue(service.verify(service.issue(user).value()).isPresent());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
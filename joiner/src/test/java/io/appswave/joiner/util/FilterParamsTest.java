@@ -0,0 +1,40 @@
+package io.appswave.joiner.util;
+
+import io.appswave.joiner.enums.Gender;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterParamsTest {
+
+    @Test
+    void testFullAddressIsAnExactEmailFilter() {
+        assertEquals("john@example.com", FilterParams.emailEquals(" john@example.com "));
+        assertNull(FilterParams.emailContains("john@example.com"));
+    }
+
+    @Test
+    void testExactEmailFilterIsLowerCased() {
+        assertEquals("john@example.com", FilterParams.emailEquals("John@Example.COM"));
+    }
+
+    @Test
+    void testPartialEmailIsASubstringFilter() {
+        assertNull(FilterParams.emailEquals("john@"));
+        assertEquals("john@", FilterParams.emailContains("john@"));
+        assertEquals("example", FilterParams.emailContains("example"));
+        assertNull(FilterParams.emailContains(" "));
+    }
+
+    @Test
+    void testLikePatternTakesWildcardsLiterally() {
+        assertEquals("%under!_score%", FilterParams.likeContains("Under_Score"));
+        assertEquals("%100!%!!%", FilterParams.likeContains("100%!"));
+    }
+
+    @Test
+    void testParseEnumIgnoresCase() {
+        assertEquals(Gender.FEMALE, FilterParams.parseEnum(Gender.class, "female"));
+        assertNull(FilterParams.parseEnum(Gender.class, ""));
+    }
+}
@@ -0,0 +1,61 @@
+package io.appswave.joiner.util;
+
+import io.appswave.joiner.dto.response.MemberResponse;
+import io.appswave.joiner.enums.MemberField;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberEtagsTest {
+
+    @Test
+    void testTagCarriesVersionAndLanguage() {
+        MemberResponse member = new MemberResponse(UUID.randomUUID(), "A", "B", "a@b.c", null,
+                "MALE", "INTERNAL", "INDIVIDUAL", 3);
+
+        assertEquals("\"3-en\"", MemberEtags.of(member, Locale.ENGLISH));
+        assertEquals("\"3-ar\"", MemberEtags.of(member, Locale.forLanguageTag("ar")));
+    }
+
+    @Test
+    void testTagCarriesBinaryFormat() {
+        MemberResponse member = new MemberResponse(UUID.randomUUID(), "A", "B", "a@b.c", null,
+                "MALE", "INTERNAL", "INDIVIDUAL", 3);
+
+        assertEquals("\"3-en\"", MemberEtags.of(member, Locale.ENGLISH, "*/*"));
+        assertEquals("\"3-en-cbor\"", MemberEtags.of(member, Locale.ENGLISH, "application/cbor"));
+        assertEquals("\"3-ar-smile\"", MemberEtags.of(member, Locale.forLanguageTag("ar"),
+                "application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals("\"3-en\"", MemberEtags.of(member, Locale.ENGLISH, "not a media type"));
+        assertEquals(Set.of(3L), MemberEtags.ifMatchVersions("\"3-en-cbor\""));
+    }
+
+    @Test
+    void testTagCarriesFieldset() {
+        MemberResponse member = new MemberResponse(UUID.randomUUID(), "A", "B", "a@b.c", null,
+                "MALE", "INTERNAL", "INDIVIDUAL", 3);
+
+        assertEquals("\"3-en-f7\"", MemberEtags.of(member, Locale.ENGLISH, null,
+                EnumSet.of(MemberField.ID, MemberField.FIRST_NAME, MemberField.LAST_NAME)));
+        assertEquals(Set.of(3L), MemberEtags.ifMatchVersions("\"3-en-cbor-f7\""));
+    }
+
+    @Test
+    void testIfMatchVersion() {
+        assertNull(MemberEtags.ifMatchVersions(null));
+        assertNull(MemberEtags.ifMatchVersions("*"));
+        assertEquals(Set.of(3L), MemberEtags.ifMatchVersions("\"3-en\""));
+        assertEquals(Set.of(), MemberEtags.ifMatchVersions("W/\"3-en\""));
+        assertEquals(Set.of(), MemberEtags.ifMatchVersions("\"abc\""));
+    }
+
+    @Test
+    void testIfMatchListNamesEveryVersion() {
+        assertEquals(Set.of(2L, 3L), MemberEtags.ifMatchVersions("\"2-en\", W/\"9-en\",\"3-ar-cbor\" , \"x,y\""));
+    }
+}
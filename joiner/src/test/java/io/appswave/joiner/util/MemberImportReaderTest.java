@@ -0,0 +1,81 @@
+package io.appswave.joiner.util;
+
+import io.appswave.joiner.enums.Gender;
+import io.appswave.joiner.enums.MemberFileFormat;
+import io.appswave.joiner.enums.PersonaType;
+import io.appswave.joiner.util.MemberImportReader.Row;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberImportReaderTest {
+
+    private MemberImportReader reader(String body, MemberFileFormat format) {
+        return new MemberImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, new JsonMapper());
+    }
+
+    @Test
+    void testCsvMapsColumnsByHeader() {
+        MemberImportReader reader = reader("""
+                email,lastName,firstName,gender,membershipType,persona
+                jane@example.com,"Doe, Jr.",Jane,female,INTERNAL,individual
+
+                "x""y@example.com",Roe,Rick,MALE,INTERNAL,INDIVIDUAL
+                """, MemberFileFormat.CSV);
+
+        Row first = reader.next();
+        assertEquals(2, first.line());
+        assertNull(first.error());
+        assertEquals("Doe, Jr.", first.request().getLastName());
+        assertEquals(Gender.FEMALE, first.request().getGender());
+        assertEquals(PersonaType.INDIVIDUAL, first.request().getPersona());
+
+        Row second = reader.next();
+        assertEquals(4, second.line());
+        assertEquals("x\"y@example.com", second.request().getEmail());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testCsvReportsBadEnumPerRow() {
+        MemberImportReader reader = reader("""
+                firstName,lastName,email,gender,membershipType,persona
+                Jane,Doe,jane@example.com,other,INTERNAL,INDIVIDUAL
+                """, MemberFileFormat.CSV);
+
+        Row row = reader.next();
+        assertEquals("validation.gender.required", row.error());
+        assertEquals("jane@example.com", row.request().getEmail());
+    }
+
+    @Test
+    void testNdjsonReadsOneObjectPerLine() {
+        MemberImportReader reader = reader("""
+                {"firstName":"Jane","lastName":"Doe","email":"jane@example.com","gender":"FEMALE","membershipType":"INTERNAL","persona":"INDIVIDUAL"}
+                not json
+                """, MemberFileFormat.NDJSON);
+
+        assertEquals("jane@example.com", reader.next().request().getEmail());
+        Row broken = reader.next();
+        assertEquals(2, broken.line());
+        assertEquals("bad.request", broken.error());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNdjsonMapsBadEnumOnItsType() {
+        MemberImportReader reader = reader("""
+                {"firstName":"Gender","lastName":"Doe","email":"jane@example.com","gender":"FEMALE","membershipType":"INTERNAL","persona":"other"}
+                {"firstName":"Jane","lastName":"Doe","email":"jane@example.com","gender":"FEMALE","membershipType":"INTERNAL","persona":"INDIVIDUAL","mobileNumber":{}}
+                """, MemberFileFormat.NDJSON);
+
+        assertEquals("validation.persona.required", reader.next().error());
+        assertEquals("bad.request", reader.next().error());
+    }
+}